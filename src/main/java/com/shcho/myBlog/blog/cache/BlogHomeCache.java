@@ -0,0 +1,77 @@
+package com.shcho.myBlog.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shcho.myBlog.blog.dto.BlogHomeResponseDto;
+import com.shcho.myBlog.blog.event.BlogContentChangedEvent;
+import com.shcho.myBlog.blog.service.BlogHomeAssembler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * 블로그 홈 화면 집계의 stale-while-revalidate 캐시.
+ * 신선 기간(refresh-after-write)이 지난 항목은 기존 값을 그대로 응답하고 백그라운드에서 다시 조립한다.
+ * 하드 만료(expire-after-write)가 지난 항목만 요청 스레드에서 조립한다.
+ * 콘텐츠 변경 시에는 새 ETag에 이전 본문이 묶이지 않도록 기존 값만 버리고 다음 조회에서 조립한다.
+ * (바로 다시 조립하면 같은 이벤트를 받는 게시글 조회 캐시가 비워지기 전의 최근 글 목록을 담을 수 있음)
+ */
+@Component
+public class BlogHomeCache {
+
+    public static final String CACHE_NAME = "blogHome";
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    // 키는 blogId, 닉네임은 조립 시 블로그와 함께 조회
+    private final LoadingCache<Long, BlogHomeResponseDto> cache;
+
+    @Autowired
+    public BlogHomeCache(
+            BlogHomeAssembler blogHomeAssembler,
+            MeterRegistry meterRegistry,
+            @Value("${blog.home-cache.refresh-after-write:30s}") Duration refreshAfterWrite,
+            @Value("${blog.home-cache.expire-after-write:10m}") Duration expireAfterWrite,
+            @Qualifier("blogHomeRefreshExecutor") Executor refreshExecutor
+    ) {
+        this(blogHomeAssembler, meterRegistry, refreshAfterWrite, expireAfterWrite, refreshExecutor,
+                Ticker.systemTicker());
+    }
+
+    BlogHomeCache(
+            BlogHomeAssembler blogHomeAssembler,
+            MeterRegistry meterRegistry,
+            Duration refreshAfterWrite,
+            Duration expireAfterWrite,
+            Executor refreshExecutor,
+            Ticker ticker
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(refreshExecutor)
+                .ticker(ticker)
+                .recordStats()
+                .build(blogHomeAssembler::assemble);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public BlogHomeResponseDto get(Long blogId) {
+        return cache.get(blogId);
+    }
+
+    @TransactionalEventListener
+    public void onBlogContentChanged(BlogContentChangedEvent event) {
+        cache.invalidate(event.blogId());
+    }
+}
@@ -1,8 +1,10 @@
 package com.shcho.myBlog.blog.controller;
 
+import com.shcho.myBlog.blog.dto.BlogHomeResponseDto;
 import com.shcho.myBlog.blog.dto.BlogResponseDto;
 import com.shcho.myBlog.blog.dto.BlogUpdateRequestDto;
 import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.blog.service.BlogHomeService;
 import com.shcho.myBlog.blog.service.BlogService;
 import com.shcho.myBlog.user.auth.CustomUserDetails;
 import jakarta.validation.Valid;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class BlogController {
 
     private final BlogService blogService;
+    private final BlogHomeService blogHomeService;
 
     @GetMapping("/me")
     public ResponseEntity<BlogResponseDto> getMyBlog(
@@ -34,6 +37,13 @@ public class BlogController {
         return ResponseEntity.ok(BlogResponseDto.from(userBlog));
     }
 
+    @GetMapping("/public/{nickname}/home")
+    public ResponseEntity<BlogHomeResponseDto> getBlogHomeByNickname(
+            @PathVariable String nickname
+    ) {
+        return ResponseEntity.ok(blogHomeService.getBlogHomeByNickname(nickname));
+    }
+
     @PatchMapping("/me")
     public ResponseEntity<BlogResponseDto> updateMyBlog(
             @AuthenticationPrincipal CustomUserDetails userDetails,
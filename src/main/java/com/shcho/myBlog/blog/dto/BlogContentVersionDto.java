@@ -0,0 +1,14 @@
+package com.shcho.myBlog.blog.dto;
+
+import java.time.LocalDateTime;
+
+// 아직 쓰기가 없던 블로그는 version 0, updatedAt null
+public record BlogContentVersionDto(
+        Long blogId,
+        Long version,
+        LocalDateTime updatedAt
+) {
+    public String etag() {
+        return "\"" + blogId + "-" + (version == null ? 0 : version) + "\"";
+    }
+}
@@ -0,0 +1,20 @@
+package com.shcho.myBlog.blog.dto;
+
+import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
+import com.shcho.myBlog.post.dto.PostRecentThumbnailResponseDto;
+
+import java.util.List;
+
+public record BlogHomeResponseDto(
+        BlogResponseDto blog,
+        List<CategoryTreeResponseDto> categories,
+        List<PostRecentThumbnailResponseDto> recentPosts
+) {
+    public static BlogHomeResponseDto of(
+            BlogResponseDto blog,
+            List<CategoryTreeResponseDto> categories,
+            List<PostRecentThumbnailResponseDto> recentPosts
+    ) {
+        return new BlogHomeResponseDto(blog, categories, recentPosts);
+    }
+}
@@ -0,0 +1,32 @@
+package com.shcho.myBlog.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블로그 공개 콘텐츠(게시글/카테고리/블로그 정보)의 버전.
+ * 공개 조회 API의 ETag/Last-Modified 값으로 사용하며, 쓰기가 일어날 때마다 증가한다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "blog_content_version")
+public class BlogContentVersion {
+
+    @Id
+    @Column(name = "blog_id")
+    private Long blogId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,5 @@
+package com.shcho.myBlog.blog.event;
+
+// 블로그 공개 콘텐츠 버전이 올라갈 때 발행, 커밋 이후 캐시 무효화에 사용
+public record BlogContentChangedEvent(Long blogId) {
+}
@@ -0,0 +1,32 @@
+package com.shcho.myBlog.blog.repository;
+
+import com.shcho.myBlog.blog.dto.BlogContentVersionDto;
+import com.shcho.myBlog.blog.entity.BlogContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BlogContentVersionRepository extends JpaRepository<BlogContentVersion, Long> {
+
+    @Modifying
+    @Query(value = """
+            insert into blog_content_version (blog_id, version, updated_at)
+            values (:blogId, 1, :now)
+            on duplicate key update
+                version = version + 1,
+                updated_at = :now
+            """, nativeQuery = true)
+    void bump(@Param("blogId") Long blogId, @Param("now") LocalDateTime now);
+
+    @Query("""
+            select new com.shcho.myBlog.blog.dto.BlogContentVersionDto(b.id, v.version, v.updatedAt)
+            from Blog b
+            left join BlogContentVersion v on v.blogId = b.id
+            where b.user.nickname = :nickname
+            """)
+    Optional<BlogContentVersionDto> findByNickname(@Param("nickname") String nickname);
+}
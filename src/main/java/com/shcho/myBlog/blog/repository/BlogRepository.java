@@ -11,6 +11,12 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     @Query("select b from Blog b join fetch b.user where b.user.userId = :userId")
     Optional<Blog> findBlogByUserIdFetchUser(@Param("userId") Long userId);
 
-    @Query("select b from Blog b join fetch b.user where b.user.nickname = :nickname")
-    Optional<Blog> findBlogByUserNicknameFetchUser(@Param("nickname") String nickname);
+    @Query("select b from Blog b join fetch b.user where b.id = :blogId")
+    Optional<Blog> findBlogByIdFetchUser(@Param("blogId") Long blogId);
+
+    @Query("select b.id from Blog b where b.user.nickname = :nickname")
+    Optional<Long> findBlogIdByNickname(@Param("nickname") String nickname);
+
+    @Query("select b.id from Blog b where b.user.userId = :userId")
+    Optional<Long> findBlogIdByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,40 @@
+package com.shcho.myBlog.blog.service;
+
+import com.shcho.myBlog.blog.dto.BlogContentVersionDto;
+import com.shcho.myBlog.blog.event.BlogContentChangedEvent;
+import com.shcho.myBlog.blog.repository.BlogContentVersionRepository;
+import com.shcho.myBlog.blog.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class BlogContentVersionService {
+
+    private final BlogContentVersionRepository blogContentVersionRepository;
+    private final BlogRepository blogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 공개 콘텐츠를 바꾸는 쓰기와 같은 트랜잭션에서 호출
+    @Transactional
+    public void bump(Long blogId) {
+        blogContentVersionRepository.bump(blogId, LocalDateTime.now());
+        eventPublisher.publishEvent(new BlogContentChangedEvent(blogId));
+    }
+
+    // 블로그 응답에 포함되는 사용자 정보(닉네임, 프로필 이미지) 변경용
+    @Transactional
+    public void bumpByUserId(Long userId) {
+        // 캐시 무효화 이벤트에 blogId가 필요하므로 먼저 조회
+        blogRepository.findBlogIdByUserId(userId).ifPresent(this::bump);
+    }
+
+    public Optional<BlogContentVersionDto> findByNickname(String nickname) {
+        return blogContentVersionRepository.findByNickname(nickname);
+    }
+}
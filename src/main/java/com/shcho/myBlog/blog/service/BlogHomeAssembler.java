@@ -0,0 +1,66 @@
+package com.shcho.myBlog.blog.service;
+
+import com.shcho.myBlog.blog.dto.BlogHomeResponseDto;
+import com.shcho.myBlog.blog.dto.BlogResponseDto;
+import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
+import com.shcho.myBlog.category.service.CategoryService;
+import com.shcho.myBlog.post.dto.PostRecentThumbnailResponseDto;
+import com.shcho.myBlog.post.service.PostService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 블로그 홈 화면(블로그 정보, 카테고리 트리, 최근 게시글)을 한 번에 조립.
+ * 블로그(사용자 포함)는 한 번만 조회하고, 서로 독립인 카테고리 트리/최근 게시글 조회는 blogId로 병렬 실행한다.
+ */
+@Component
+public class BlogHomeAssembler {
+
+    private static final int RECENT_POST_LIMIT = 6;
+
+    private final BlogService blogService;
+    private final CategoryService categoryService;
+    private final PostService postService;
+    private final Executor blogHomeQueryExecutor;
+
+    public BlogHomeAssembler(
+            BlogService blogService,
+            CategoryService categoryService,
+            PostService postService,
+            @Qualifier("blogHomeQueryExecutor") Executor blogHomeQueryExecutor
+    ) {
+        this.blogService = blogService;
+        this.categoryService = categoryService;
+        this.postService = postService;
+        this.blogHomeQueryExecutor = blogHomeQueryExecutor;
+    }
+
+    public BlogHomeResponseDto assemble(Long blogId) {
+        Blog blog = blogService.getBlogById(blogId);
+
+        CompletableFuture<List<CategoryTreeResponseDto>> categories = CompletableFuture.supplyAsync(
+                () -> categoryService.getCategoryTreeByBlogId(blogId), blogHomeQueryExecutor);
+        CompletableFuture<List<PostRecentThumbnailResponseDto>> recentPosts = CompletableFuture.supplyAsync(
+                () -> postService.getRecentPostThumbnailsByBlogId(blogId, RECENT_POST_LIMIT), blogHomeQueryExecutor);
+
+        return BlogHomeResponseDto.of(BlogResponseDto.from(blog), join(categories), join(recentPosts));
+    }
+
+    // 병렬 조회에서 발생한 예외는 원래 예외로 다시 던짐 (CustomException 응답 유지)
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
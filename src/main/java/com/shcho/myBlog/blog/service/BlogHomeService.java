@@ -0,0 +1,18 @@
+package com.shcho.myBlog.blog.service;
+
+import com.shcho.myBlog.blog.cache.BlogHomeCache;
+import com.shcho.myBlog.blog.dto.BlogHomeResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class BlogHomeService {
+
+    private final BlogIdResolver blogIdResolver;
+    private final BlogHomeCache blogHomeCache;
+
+    public BlogHomeResponseDto getBlogHomeByNickname(String nickname) {
+        return blogHomeCache.get(blogIdResolver.getBlogId(nickname));
+    }
+}
@@ -0,0 +1,60 @@
+package com.shcho.myBlog.blog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.common.util.TransactionUtils;
+import com.shcho.myBlog.libs.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.BLOG_NOT_FOUND;
+
+/**
+ * 공개 API의 닉네임 -> blogId 변환 캐시.
+ * 블로그와 사용자는 1:1이고 blogId는 바뀌지 않으므로, 닉네임 변경 시 이전/새 닉네임만 비우면 된다.
+ * 존재하지 않는 닉네임도 짧게 캐시해서 임의 닉네임 요청이 반복돼도 DB를 조회하지 않는다.
+ * (회원가입, 닉네임 변경 시 해당 닉네임을 비움)
+ */
+@Service
+public class BlogIdResolver {
+
+    public static final String CACHE_NAME = "blogId";
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    // 무효화 누락 대비 최대 보관 시간
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+    // 없는 닉네임은 무효화 누락 시 가입 직후 블로그가 안 보이는 시간을 줄이기 위해 짧게 보관
+    private static final Duration MISSING_EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+    private final BlogRepository blogRepository;
+    private final Cache<String, Optional<Long>> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(Expiry.<String, Optional<Long>>creating((nickname, blogId) ->
+                    blogId.isPresent() ? EXPIRE_AFTER_WRITE : MISSING_EXPIRE_AFTER_WRITE))
+            .recordStats()
+            .build();
+
+    public BlogIdResolver(BlogRepository blogRepository, MeterRegistry meterRegistry) {
+        this.blogRepository = blogRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Long> findBlogId(String nickname) {
+        return cache.get(nickname, blogRepository::findBlogIdByNickname);
+    }
+
+    public Long getBlogId(String nickname) {
+        return findBlogId(nickname)
+                .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
+    }
+
+    public void evict(String nickname) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(nickname));
+    }
+}
@@ -15,6 +15,8 @@ import static com.shcho.myBlog.libs.exception.ErrorCode.BLOG_NOT_FOUND;
 public class BlogService {
 
     private final BlogRepository blogRepository;
+    private final BlogContentVersionService blogContentVersionService;
+    private final BlogIdResolver blogIdResolver;
 
     public Blog getMyBlogByUserId(Long userId) {
         return blogRepository.findBlogByUserIdFetchUser(userId)
@@ -22,7 +24,11 @@ public class BlogService {
     }
 
     public Blog getUserBlogByNickname(String nickname) {
-        return blogRepository.findBlogByUserNicknameFetchUser(nickname)
+        return getBlogById(blogIdResolver.getBlogId(nickname));
+    }
+
+    public Blog getBlogById(Long blogId) {
+        return blogRepository.findBlogByIdFetchUser(blogId)
                 .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
     }
 
@@ -34,6 +40,8 @@ public class BlogService {
         if (requestDto.intro() != null) myBlog.setIntro(requestDto.intro());
         if (requestDto.bannerImageUrl() != null) myBlog.setBannerImageUrl(requestDto.bannerImageUrl());
 
+        blogContentVersionService.bump(myBlog.getId());
+
         return myBlog;
     }
 }
@@ -0,0 +1,51 @@
+package com.shcho.myBlog.category.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
+import com.shcho.myBlog.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 공개 카테고리 트리(게시글 수 포함)의 블로그별 캐시.
+ * 카테고리 변경과 게시글 수 변경 시 커밋 이후 해당 블로그 항목을 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    // 무효화 누락 대비 최대 보관 시간
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, CategoryTreeSnapshot> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    // 같은 블로그에 대한 동시 miss는 한 번만 로드됨
+    public CategoryTreeSnapshot get(Long blogId, Supplier<List<CategoryTreeResponseDto>> loader) {
+        return cache.get(blogId, id -> snapshotOf(loader.get()));
+    }
+
+    public void evict(Long blogId) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(blogId));
+    }
+
+    private CategoryTreeSnapshot snapshotOf(List<CategoryTreeResponseDto> tree) {
+        try {
+            return new CategoryTreeSnapshot(tree, objectMapper.writeValueAsBytes(tree));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Category tree serialization failed", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.shcho.myBlog.category.cache;
+
+import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
+
+import java.util.List;
+
+// 캐시에 보관하는 블로그별 카테고리 트리, 응답 바디로 바로 쓰도록 직렬화한 JSON을 함께 보관
+public record CategoryTreeSnapshot(
+        List<CategoryTreeResponseDto> tree,
+        byte[] json
+) {
+}
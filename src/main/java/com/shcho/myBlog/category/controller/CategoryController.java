@@ -6,6 +6,7 @@ import com.shcho.myBlog.category.service.CategoryService;
 import com.shcho.myBlog.user.auth.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -61,13 +62,14 @@ public class CategoryController {
     }
 
     @GetMapping("/public/{nickname}")
-    public ResponseEntity<List<CategoryTreeResponseDto>> getCategoryByBlogId(
+    public ResponseEntity<byte[]> getCategoryByBlogId(
             @PathVariable String nickname
     ) {
-        List<CategoryTreeResponseDto> getBlogCategory =
-                categoryService.getCategoryTreeByNickname(nickname);
+        byte[] getBlogCategory = categoryService.getCategoryTreeJsonByNickname(nickname);
 
-        return ResponseEntity.ok(getBlogCategory);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(getBlogCategory);
     }
 
     @PatchMapping("/me/{categoryId}")
@@ -8,29 +8,38 @@ public record CategoryTreeResponseDto(
         Long categoryId,
         String name,
         String description,
+        long postCount,
         List<CategoryChildDto> children
 ) {
-    public static CategoryTreeResponseDto of(Category root, List<CategoryChildDto> children) {
+    // 루트의 게시글 수는 자신과 하위 카테고리의 합
+    public static CategoryTreeResponseDto of(Category root, long rootPostCount, List<CategoryChildDto> children) {
+        long childrenPostCount = children.stream()
+                .mapToLong(CategoryChildDto::postCount)
+                .sum();
+
         return new CategoryTreeResponseDto(
                 root.getId(),
                 root.getName(),
                 root.getDescription(),
+                rootPostCount + childrenPostCount,
                 children
         );
     }
 
-    public static CategoryChildDto childOf(Category child) {
+    public static CategoryChildDto childOf(Category child, long postCount) {
         return new CategoryChildDto(
                 child.getId(),
                 child.getName(),
-                child.getDescription()
+                child.getDescription(),
+                postCount
         );
     }
 
     public record CategoryChildDto(
             Long id,
             String name,
-            String description
+            String description,
+            long postCount
     ) {
     }
 }
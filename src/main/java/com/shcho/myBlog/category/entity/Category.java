@@ -18,6 +18,12 @@ import lombok.NoArgsConstructor;
                         name = "uk_category_blog_name",
                         columnNames = {"blog_id", "parent_id", "name"}
                 )
+        },
+        indexes = {
+                // 블로그 카테고리 이름순 조회, 기본 카테고리(이름) 조회
+                @Index(name = "idx_category_blog_name", columnList = "blog_id, name"),
+                // 하위 카테고리 존재 여부 확인
+                @Index(name = "idx_category_parent", columnList = "parent_id")
         }
 )
 public class Category {
@@ -2,12 +2,20 @@ package com.shcho.myBlog.category.service;
 
 import com.shcho.myBlog.blog.entity.Blog;
 import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.blog.service.BlogIdResolver;
+import com.shcho.myBlog.category.cache.CategoryTreeCache;
+import com.shcho.myBlog.category.cache.CategoryTreeSnapshot;
 import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
 import com.shcho.myBlog.category.dto.CreateCategoryRequestDto;
 import com.shcho.myBlog.category.dto.UpdateCategoryRequest;
 import com.shcho.myBlog.category.entity.Category;
 import com.shcho.myBlog.category.repository.CategoryRepository;
+import com.shcho.myBlog.common.util.SingleFlight;
 import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.entity.PostCounter;
+import com.shcho.myBlog.post.repository.PostCounterRepository;
+import com.shcho.myBlog.post.service.PostReadModelService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import static com.shcho.myBlog.libs.exception.ErrorCode.*;
@@ -26,6 +35,12 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final BlogRepository blogRepository;
+    private final PostCounterRepository postCounterRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BlogContentVersionService blogContentVersionService;
+    private final SingleFlight singleFlight;
+    private final BlogIdResolver blogIdResolver;
+    private final PostReadModelService postReadModelService;
     private static final String DEFAULT_CATEGORY_NAME = "미분류";
 
     @Transactional
@@ -56,7 +71,11 @@ public class CategoryService {
         }
 
         Category newCategory = Category.of(myBlog, parent, name, description);
-        return categoryRepository.save(newCategory);
+        Category saved = categoryRepository.save(newCategory);
+        categoryTreeCache.evict(myBlog.getId());
+        blogContentVersionService.bump(myBlog.getId());
+
+        return saved;
     }
 
     public List<Category> getMyRootCategories(Long userId) {
@@ -84,14 +103,23 @@ public class CategoryService {
         Blog myBlog = blogRepository.findBlogByUserIdFetchUser(userId)
                 .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
 
-        return buildTree(myBlog.getId());
+        Long blogId = myBlog.getId();
+        return buildTree(blogId, countPosts(blogId, PostCounter::getTotalCount));
     }
 
     public List<CategoryTreeResponseDto> getCategoryTreeByNickname(String nickname) {
-        Blog getBlogByNickname = blogRepository.findBlogByUserNicknameFetchUser(nickname)
-                .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
+        return getPublicCategoryTree(nickname).tree();
+    }
+
+    // 캐시에 직렬화된 JSON을 그대로 응답 바디로 사용
+    public byte[] getCategoryTreeJsonByNickname(String nickname) {
+        return getPublicCategoryTree(nickname).json();
+    }
 
-        return buildTree(getBlogByNickname.getId());
+    // 닉네임 조회가 끝난 호출자(블로그 홈 집계)용
+    @Transactional(readOnly = true)
+    public List<CategoryTreeResponseDto> getCategoryTreeByBlogId(Long blogId) {
+        return getPublicCategoryTree(blogId).tree();
     }
 
     @Transactional
@@ -138,7 +166,15 @@ public class CategoryService {
             throw new CustomException(DUPLICATED_CATEGORY_NAME);
         }
 
+        boolean renamed = !name.equals(myCategory.getName());
+
         myCategory.updateCategory(name, description, newParent);
+        if (renamed) {
+            postReadModelService.renameCategory(myBlog.getId(), myCategory.getId(), name);
+        }
+        categoryTreeCache.evict(myBlog.getId());
+        blogContentVersionService.bump(myBlog.getId());
+
         return myCategory;
     }
 
@@ -172,6 +208,9 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        categoryTreeCache.evict(myBlog.getId());
+        blogContentVersionService.bump(myBlog.getId());
+
         return categoryId;
     }
 
@@ -193,7 +232,24 @@ public class CategoryService {
         }
     }
 
-    private List<CategoryTreeResponseDto> buildTree(Long blogId) {
+    // 동시에 들어온 같은 닉네임 조회는 한 번만 실행
+    private CategoryTreeSnapshot getPublicCategoryTree(String nickname) {
+        return singleFlight.execute("category.publicTree",
+                () -> getPublicCategoryTree(blogIdResolver.getBlogId(nickname)),
+                nickname);
+    }
+
+    private CategoryTreeSnapshot getPublicCategoryTree(Long blogId) {
+        return categoryTreeCache.get(blogId, () -> buildTree(blogId, countPosts(blogId, PostCounter::getPublicCount)));
+    }
+
+    // 카테고리별 게시글 수 (post_counter 기준)
+    private Map<Long, Long> countPosts(Long blogId, ToLongFunction<PostCounter> countOf) {
+        return postCounterRepository.findAllByBlogId(blogId).stream()
+                .collect(Collectors.toMap(PostCounter::getCategoryId, countOf::applyAsLong));
+    }
+
+    private List<CategoryTreeResponseDto> buildTree(Long blogId, Map<Long, Long> postCounts) {
         List<Category> categories = categoryRepository.findAllByBlogIdOrderByNameAsc(blogId);
 
         // 부모 : 자식 map 생성
@@ -213,10 +269,11 @@ public class CategoryService {
                     childrenMap.getOrDefault(root.getId(), new ArrayList<>())
                             .stream()
                             .sorted(Comparator.comparing(Category::getName))
-                            .map(CategoryTreeResponseDto::childOf)
+                            .map(child -> CategoryTreeResponseDto.childOf(
+                                    child, postCounts.getOrDefault(child.getId(), 0L)))
                             .toList();
 
-            result.add(CategoryTreeResponseDto.of(root, children));
+            result.add(CategoryTreeResponseDto.of(root, postCounts.getOrDefault(root.getId(), 0L), children));
         }
 
         return result;
@@ -0,0 +1,51 @@
+package com.shcho.myBlog.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 블로그 홈 캐시의 백그라운드 갱신 전용, 큐가 차면 갱신을 조용히 건너뛰고 기존 값을 계속 응답
+    // (건너뛴 항목은 하드 만료나 콘텐츠 변경으로 비워질 때 다시 조립됨)
+    @Bean
+    public ThreadPoolTaskExecutor blogHomeRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("blog-home-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 블로그 홈 집계의 병렬 조회용, 포화 시 요청 스레드에서 직접 실행해 순차 조회로 떨어짐
+    @Bean
+    public ThreadPoolTaskExecutor blogHomeQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("blog-home-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // MinIO 삭제 outbox 디스패처 깨우기용, 대기 중인 실행이 있으면 그 실행이 새 요청까지 처리하므로 더 쌓지 않음
+    @Bean
+    public ThreadPoolTaskExecutor objectDeleteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("object-delete-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,90 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.post.util.PostContentCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원문(TEXT)으로 저장된 기존 본문을 압축 형식으로 옮긴다.
+ * 압축 저장(post.content.compression.enabled)을 켠 뒤 한 번 실행하면 된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PostContentCompressionJobConfig {
+
+    private static final String COMPRESS_CONTENT_SQL =
+            "update post_content set compressed_content = ?, content = null where id = ? and compressed_content is null";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Bean
+    public Job postContentCompressionJob(
+            @Qualifier("compressPostContentStep") Step compressPostContentStep
+    ) {
+        return new JobBuilder("postContentCompressionJob", jobRepository)
+                .start(compressPostContentStep)
+                .build();
+    }
+
+    @Bean("compressPostContentStep")
+    public Step compressPostContentStep(
+            @Qualifier("uncompressedPostContentReader") JdbcPagingItemReader<UncompressedPostContent> uncompressedPostContentReader
+    ) {
+        return new StepBuilder("compressPostContentStep", jobRepository)
+                .<UncompressedPostContent, UncompressedPostContent>chunk(100, transactionManager)
+                .reader(uncompressedPostContentReader)
+                .writer(postContentCompressionWriter())
+                .build();
+    }
+
+    @Bean("uncompressedPostContentReader")
+    @StepScope
+    public JdbcPagingItemReader<UncompressedPostContent> uncompressedPostContentReader() {
+        return new JdbcPagingItemReaderBuilder<UncompressedPostContent>()
+                .name("uncompressedPostContentReader")
+                .dataSource(dataSource)
+                .selectClause("select id, content")
+                .fromClause("from post_content")
+                .whereClause("where compressed_content is null and char_length(content) >= "
+                        + PostContentCodec.MIN_COMPRESS_LENGTH)
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> new UncompressedPostContent(rs.getLong("id"), rs.getString("content")))
+                .pageSize(100)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<UncompressedPostContent> postContentCompressionWriter() {
+        return items -> {
+            List<Object[]> rows = items.getItems().stream()
+                    .map(item -> new Object[]{PostContentCodec.encode(item.content()), item.id()})
+                    .toList();
+
+            jdbcTemplate.batchUpdate(COMPRESS_CONTENT_SQL, rows);
+        };
+    }
+
+    public record UncompressedPostContent(Long id, String content) {}
+}
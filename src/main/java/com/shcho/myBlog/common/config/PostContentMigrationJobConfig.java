@@ -0,0 +1,103 @@
+package com.shcho.myBlog.common.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * post.content(TEXT)에 남아있는 기존 본문을 post_content 테이블로 옮긴다.
+ * 옮긴 행은 post_content_id를 채우고 기존 컬럼을 비우므로 여러 번 실행해도 안전하다.
+ * 옮기기 전에도 Post.getContent()가 기존 컬럼을 읽으므로 다른 배치와 실행 순서를 맞출 필요는 없다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PostContentMigrationJobConfig {
+
+    private static final String INSERT_CONTENT_SQL = "insert into post_content (content) values (?)";
+    private static final String LINK_CONTENT_SQL =
+            "update post set post_content_id = ?, content = null where id = ?";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Bean
+    public Job postContentMigrationJob(
+            @Qualifier("migratePostContentStep") Step migratePostContentStep
+    ) {
+        return new JobBuilder("postContentMigrationJob", jobRepository)
+                .start(migratePostContentStep)
+                .build();
+    }
+
+    @Bean("migratePostContentStep")
+    public Step migratePostContentStep(
+            @Qualifier("legacyPostContentReader") JdbcPagingItemReader<LegacyPostContent> legacyPostContentReader
+    ) {
+        return new StepBuilder("migratePostContentStep", jobRepository)
+                .<LegacyPostContent, LegacyPostContent>chunk(100, transactionManager)
+                .reader(legacyPostContentReader)
+                .writer(postContentMigrationWriter())
+                .build();
+    }
+
+    // id 기준 keyset 페이징이라 writer가 조건에서 빠지는 행을 만들어도 누락되지 않음
+    @Bean("legacyPostContentReader")
+    @StepScope
+    public JdbcPagingItemReader<LegacyPostContent> legacyPostContentReader() {
+        return new JdbcPagingItemReaderBuilder<LegacyPostContent>()
+                .name("legacyPostContentReader")
+                .dataSource(dataSource)
+                .selectClause("select id, content")
+                .fromClause("from post")
+                .whereClause("where post_content_id is null and content is not null")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> new LegacyPostContent(rs.getLong("id"), rs.getString("content")))
+                .pageSize(100)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<LegacyPostContent> postContentMigrationWriter() {
+        return items -> {
+            for (LegacyPostContent item : items) {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            INSERT_CONTENT_SQL, Statement.RETURN_GENERATED_KEYS);
+                    ps.setString(1, item.content());
+                    return ps;
+                }, keyHolder);
+
+                Long contentId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+                jdbcTemplate.update(LINK_CONTENT_SQL, contentId, item.postId());
+            }
+        };
+    }
+
+    public record LegacyPostContent(Long postId, String content) {}
+}
@@ -0,0 +1,99 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.post.util.PostContentCodec;
+import com.shcho.myBlog.post.util.PostContentRenderer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 렌더러 버전으로 렌더링되지 않은 본문(렌더링 도입 전 본문, 이전 버전 결과)을 다시 렌더링한다.
+ * PostContentRenderer.VERSION을 올려 배포한 뒤 한 번 실행하면 된다.
+ * 렌더링 결과만 바뀌고 본문은 그대로이므로 콘텐츠 버전은 올리지 않는다. (조회 시점 렌더링 결과와 같음)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PostContentRenderJobConfig {
+
+    private static final String UPDATE_RENDERED_HTML_SQL =
+            "update post_content set rendered_html = ?, rendered_version = ? where id = ?";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Bean
+    public Job postContentRenderJob(
+            @Qualifier("renderPostContentStep") Step renderPostContentStep
+    ) {
+        return new JobBuilder("postContentRenderJob", jobRepository)
+                .start(renderPostContentStep)
+                .build();
+    }
+
+    @Bean("renderPostContentStep")
+    public Step renderPostContentStep(
+            @Qualifier("staleRenderedPostContentReader") JdbcPagingItemReader<StalePostContent> staleRenderedPostContentReader
+    ) {
+        return new StepBuilder("renderPostContentStep", jobRepository)
+                .<StalePostContent, StalePostContent>chunk(100, transactionManager)
+                .reader(staleRenderedPostContentReader)
+                .writer(postContentRenderWriter())
+                .build();
+    }
+
+    @Bean("staleRenderedPostContentReader")
+    @StepScope
+    public JdbcPagingItemReader<StalePostContent> staleRenderedPostContentReader() {
+        return new JdbcPagingItemReaderBuilder<StalePostContent>()
+                .name("staleRenderedPostContentReader")
+                .dataSource(dataSource)
+                .selectClause("select id, content, compressed_content")
+                .fromClause("from post_content")
+                .whereClause("where rendered_version is null or rendered_version <> " + PostContentRenderer.VERSION)
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> new StalePostContent(
+                        rs.getLong("id"), rs.getString("content"), rs.getBytes("compressed_content")))
+                .pageSize(100)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<StalePostContent> postContentRenderWriter() {
+        return items -> {
+            List<Object[]> rows = items.getItems().stream()
+                    .map(item -> new Object[]{
+                            PostContentRenderer.render(item.content()), PostContentRenderer.VERSION, item.id()})
+                    .toList();
+
+            jdbcTemplate.batchUpdate(UPDATE_RENDERED_HTML_SQL, rows);
+        };
+    }
+
+    public record StalePostContent(Long id, String rawContent, byte[] compressedContent) {
+
+        // 본문은 원문 또는 압축본 중 한 곳에만 저장됨
+        public String content() {
+            return compressedContent == null ? rawContent : PostContentCodec.decode(compressedContent);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.category.cache.CategoryTreeCache;
+import com.shcho.myBlog.post.entity.PostCounter;
+import com.shcho.myBlog.post.repository.PostCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * post_counter를 post 테이블 기준으로 다시 계산해서 어긋난 값을 바로잡는다.
+ * 블로그 단위로 지우고 다시 채우므로, 한 블로그의 카운터는 같은 트랜잭션 안에서 교체된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PostCounterReconcileJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final DataSource dataSource;
+    private final PostCounterRepository postCounterRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BlogContentVersionService blogContentVersionService;
+
+    @Bean
+    public Job postCounterReconcileJob(
+            @Qualifier("reconcilePostCounterStep") Step reconcilePostCounterStep
+    ) {
+        return new JobBuilder("postCounterReconcileJob", jobRepository)
+                .start(reconcilePostCounterStep)
+                .build();
+    }
+
+    @Bean("reconcilePostCounterStep")
+    public Step reconcilePostCounterStep(
+            @Qualifier("postCounterBlogIdReader") JdbcPagingItemReader<Long> postCounterBlogIdReader
+    ) {
+        return new StepBuilder("reconcilePostCounterStep", jobRepository)
+                .<Long, Long>chunk(50, transactionManager)
+                .reader(postCounterBlogIdReader)
+                .writer(postCounterReconcileWriter())
+                .build();
+    }
+
+    @Bean("postCounterBlogIdReader")
+    @StepScope
+    public JdbcPagingItemReader<Long> postCounterBlogIdReader() {
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("postCounterBlogIdReader")
+                .dataSource(dataSource)
+                .selectClause("select id")
+                .fromClause("from blog")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getLong("id"))
+                .pageSize(50)
+                .build();
+    }
+
+    // 값이 바뀐 블로그만 캐시를 비우고 콘텐츠 버전을 올려서 목록 응답의 전체 개수와 ETag가 갱신되게 함
+    @Bean
+    public ItemWriter<Long> postCounterReconcileWriter() {
+        return blogIds -> {
+            for (Long blogId : blogIds) {
+                Map<Long, CategoryCount> before = countsOf(blogId);
+
+                postCounterRepository.deleteAllByBlogId(blogId);
+                postCounterRepository.recountByBlogId(blogId);
+
+                if (!before.equals(countsOf(blogId))) {
+                    categoryTreeCache.evict(blogId);
+                    blogContentVersionService.bump(blogId);
+                }
+            }
+        };
+    }
+
+    private Map<Long, CategoryCount> countsOf(Long blogId) {
+        return postCounterRepository.findAllByBlogId(blogId).stream()
+                .collect(Collectors.toMap(
+                        PostCounter::getCategoryId,
+                        counter -> new CategoryCount(counter.getTotalCount(), counter.getPublicCount())
+                ));
+    }
+
+    private record CategoryCount(long totalCount, long publicCount) {}
+}
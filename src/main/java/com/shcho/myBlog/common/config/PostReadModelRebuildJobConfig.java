@@ -0,0 +1,85 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.post.repository.PostReadModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * post_read_model을 post/blog/user/category 테이블 기준으로 다시 채운다.
+ * 최초 도입 시 기존 게시글을 옮기거나, 동기화가 어긋난 행을 바로잡을 때 실행한다.
+ * 블로그 단위로 지우고 다시 채우므로, 한 블로그의 행은 같은 트랜잭션 안에서 교체된다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PostReadModelRebuildJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final DataSource dataSource;
+    private final PostReadModelRepository postReadModelRepository;
+    private final BlogContentVersionService blogContentVersionService;
+
+    @Bean
+    public Job postReadModelRebuildJob(
+            @Qualifier("rebuildPostReadModelStep") Step rebuildPostReadModelStep
+    ) {
+        return new JobBuilder("postReadModelRebuildJob", jobRepository)
+                .start(rebuildPostReadModelStep)
+                .build();
+    }
+
+    @Bean("rebuildPostReadModelStep")
+    public Step rebuildPostReadModelStep(
+            @Qualifier("postReadModelBlogIdReader") JdbcPagingItemReader<Long> postReadModelBlogIdReader
+    ) {
+        return new StepBuilder("rebuildPostReadModelStep", jobRepository)
+                .<Long, Long>chunk(20, transactionManager)
+                .reader(postReadModelBlogIdReader)
+                .writer(postReadModelRebuildWriter())
+                .build();
+    }
+
+    @Bean("postReadModelBlogIdReader")
+    @StepScope
+    public JdbcPagingItemReader<Long> postReadModelBlogIdReader() {
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("postReadModelBlogIdReader")
+                .dataSource(dataSource)
+                .selectClause("select id")
+                .fromClause("from blog")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .rowMapper((rs, rowNum) -> rs.getLong("id"))
+                .pageSize(20)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Long> postReadModelRebuildWriter() {
+        return blogIds -> {
+            for (Long blogId : blogIds) {
+                postReadModelRepository.deleteAllByBlogId(blogId);
+                postReadModelRepository.rebuildByBlogId(blogId);
+                // 목록 캐시와 ETag가 다시 채워진 행 기준으로 갱신되도록 버전을 올림
+                blogContentVersionService.bump(blogId);
+            }
+        };
+    }
+}
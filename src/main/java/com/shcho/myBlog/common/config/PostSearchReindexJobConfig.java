@@ -0,0 +1,70 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostRepository;
+import com.shcho.myBlog.post.service.PostSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.data.RepositoryItemReader;
+import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class PostSearchReindexJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndexService postSearchIndexService;
+
+    @Bean
+    public Job postSearchReindexJob(
+            @Qualifier("reindexPostSearchStep") Step reindexPostSearchStep
+    ) {
+        return new JobBuilder("postSearchReindexJob", jobRepository)
+                .start(reindexPostSearchStep)
+                .build();
+    }
+
+    @Bean("reindexPostSearchStep")
+    public Step reindexPostSearchStep(
+            @Qualifier("postSearchReindexReader") RepositoryItemReader<Post> postSearchReindexReader
+    ) {
+        return new StepBuilder("reindexPostSearchStep", jobRepository)
+                .<Post, Post>chunk(100, transactionManager)
+                .reader(postSearchReindexReader)
+                .writer(postSearchReindexWriter())
+                .build();
+    }
+
+    @Bean("postSearchReindexReader")
+    @StepScope
+    public RepositoryItemReader<Post> postSearchReindexReader() {
+        return new RepositoryItemReaderBuilder<Post>()
+                .name("postSearchReindexReader")
+                .repository(postRepository)
+                .methodName("findAll")
+                .sorts(Map.of("id", Sort.Direction.ASC))
+                .pageSize(100)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Post> postSearchReindexWriter() {
+        return items -> items.getItems().forEach(postSearchIndexService::index);
+    }
+}
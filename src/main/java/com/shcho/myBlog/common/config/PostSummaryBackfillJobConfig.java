@@ -0,0 +1,78 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostRepository;
+import com.shcho.myBlog.post.util.PostContentScanner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.data.RepositoryItemReader;
+import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class PostSummaryBackfillJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final PostRepository postRepository;
+
+    @Bean
+    public Job postSummaryBackfillJob(
+            @Qualifier("backfillPostSummaryStep") Step backfillPostSummaryStep
+    ) {
+        return new JobBuilder("postSummaryBackfillJob", jobRepository)
+                .start(backfillPostSummaryStep)
+                .build();
+    }
+
+    @Bean("backfillPostSummaryStep")
+    public Step backfillPostSummaryStep(
+            @Qualifier("postSummaryBackfillReader") RepositoryItemReader<Post> postSummaryBackfillReader
+    ) {
+        return new StepBuilder("backfillPostSummaryStep", jobRepository)
+                .<Post, Post>chunk(100, transactionManager)
+                .reader(postSummaryBackfillReader)
+                .writer(postSummaryBackfillWriter())
+                .build();
+    }
+
+    // 요약 컬럼 기준으로 필터링하면 writer가 결과 집합을 줄이면서 페이지가 밀리므로 전체를 id 순으로 읽는다
+    @Bean("postSummaryBackfillReader")
+    @StepScope
+    public RepositoryItemReader<Post> postSummaryBackfillReader() {
+        return new RepositoryItemReaderBuilder<Post>()
+                .name("postSummaryBackfillReader")
+                .repository(postRepository)
+                .methodName("findAll")
+                .sorts(Map.of("id", Sort.Direction.ASC))
+                .pageSize(100)
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Post> postSummaryBackfillWriter() {
+        return items -> {
+            var list = items.getItems();
+
+            for (Post post : list) {
+                post.setContentSummary(PostContentScanner.scan(post.getContent()).contentSummary());
+            }
+
+            postRepository.saveAll(list);
+        };
+    }
+}
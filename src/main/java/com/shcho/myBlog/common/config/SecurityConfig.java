@@ -49,6 +49,8 @@ public class SecurityConfig {
                                 "/api/category/public/**",
                                 "/api/posts/public/**"
                         ).permitAll()
+                        // 배치 수동 실행, 운영 지표는 관리자만 가능
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
                         // 그 외 경로는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -69,7 +71,10 @@ public class SecurityConfig {
         ));
 
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(List.of("Authorization", "Content-Type", "Accept"));
+        config.setAllowedHeaders(List.of(
+                "Authorization", "Content-Type", "Accept", "If-None-Match", "If-Modified-Since"
+        ));
+        config.setExposedHeaders(List.of("ETag", "Last-Modified"));
 
         config.setAllowCredentials(true);
 
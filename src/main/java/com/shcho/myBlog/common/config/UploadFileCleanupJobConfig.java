@@ -1,9 +1,11 @@
 package com.shcho.myBlog.common.config;
 
+import com.shcho.myBlog.common.dto.ObjectDeleteResult;
 import com.shcho.myBlog.common.entity.UploadFile;
 import com.shcho.myBlog.common.entity.UploadStatus;
 import com.shcho.myBlog.common.repository.UploadFileRepository;
 import com.shcho.myBlog.common.service.MinioService;
+import com.shcho.myBlog.common.util.KeysetItemReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -13,26 +15,30 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Map;
+import java.util.List;
 
+/**
+ * 오래된 TEMP 파일과 보관 기간이 지난 DELETED 파일을 MinIO와 DB에서 정리한다.
+ * writer가 읽은 행의 상태를 바꾸거나 지우므로 페이지 번호 대신 id keyset으로 읽는다.
+ */
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class UploadFileCleanupJobConfig {
 
+    private static final int PAGE_SIZE = 100;
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
@@ -58,10 +64,10 @@ public class UploadFileCleanupJobConfig {
 
     @Bean("cleanupTempFilesStep")
     public Step cleanupTempFilesStep(
-            @Qualifier("tempFilesReader") RepositoryItemReader<UploadFile> tempFilesReader
+            @Qualifier("tempFilesReader") KeysetItemReader<UploadFile> tempFilesReader
     ) {
         return new StepBuilder("cleanupTempFilesStep", jobRepository)
-                .<UploadFile, UploadFile>chunk(100, transactionManager)
+                .<UploadFile, UploadFile>chunk(PAGE_SIZE, transactionManager)
                 .reader(tempFilesReader)
                 .writer(tempFilesWriter())
                 .build();
@@ -69,10 +75,10 @@ public class UploadFileCleanupJobConfig {
 
     @Bean("purgeDeletedFilesStep")
     public Step purgeDeletedFilesStep(
-            @Qualifier("deletedFilesReader") RepositoryItemReader<UploadFile> deletedFilesReader
+            @Qualifier("deletedFilesReader") KeysetItemReader<UploadFile> deletedFilesReader
     ) {
         return new StepBuilder("purgeDeletedFilesStep", jobRepository)
-                .<UploadFile, UploadFile>chunk(100, transactionManager)
+                .<UploadFile, UploadFile>chunk(PAGE_SIZE, transactionManager)
                 .reader(deletedFilesReader)
                 .writer(deletedFilesWriter())
                 .build();
@@ -80,7 +86,7 @@ public class UploadFileCleanupJobConfig {
 
     @Bean("tempFilesReader")
     @StepScope
-    public RepositoryItemReader<UploadFile> tempFilesReader(
+    public KeysetItemReader<UploadFile> tempFilesReader(
             @Value("#{jobParameters['runAt']}") Long runAt
     ) {
         LocalDateTime cutoff = LocalDateTime.ofInstant(
@@ -88,19 +94,14 @@ public class UploadFileCleanupJobConfig {
                 ZoneId.of("Asia/Seoul")
         ).minusHours(tempTtlHours);
 
-        return new RepositoryItemReaderBuilder<UploadFile>()
-                .name("tempFilesReader")
-                .repository(uploadFileRepository)
-                .methodName("findAllByStatusAndCreatedAtBefore")
-                .arguments(UploadStatus.TEMP, cutoff)
-                .sorts(Map.of("id", Sort.Direction.ASC))
-                .pageSize(100)
-                .build();
+        return new KeysetItemReader<>("tempFilesReader", PAGE_SIZE, UploadFile::getId,
+                (lastId, pageSize) -> uploadFileRepository.findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                        UploadStatus.TEMP, cutoff, lastId, PageRequest.of(0, pageSize)));
     }
 
     @Bean("deletedFilesReader")
     @StepScope
-    public RepositoryItemReader<UploadFile> deletedFilesReader(
+    public KeysetItemReader<UploadFile> deletedFilesReader(
             @Value("#{jobParameters['runAt']}") Long runAt
     ) {
         LocalDateTime cutoff = LocalDateTime.ofInstant(
@@ -108,28 +109,23 @@ public class UploadFileCleanupJobConfig {
                 ZoneId.of("Asia/Seoul")
         ).minusDays(deletedRetentionDays);
 
-        return new RepositoryItemReaderBuilder<UploadFile>()
-                .name("deletedFilesReader")
-                .repository(uploadFileRepository)
-                .methodName("findAllByStatusAndDeletedAtBefore")
-                .arguments(UploadStatus.DELETED, cutoff)
-                .sorts(Map.of("id", Sort.Direction.ASC))
-                .pageSize(100)
-                .build();
+        return new KeysetItemReader<>("deletedFilesReader", PAGE_SIZE, UploadFile::getId,
+                (lastId, pageSize) -> uploadFileRepository.findAllByStatusAndDeletedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                        UploadStatus.DELETED, cutoff, lastId, PageRequest.of(0, pageSize)));
     }
 
     @Bean
     public ItemWriter<UploadFile> tempFilesWriter() {
         return items -> {
             var list = items.getItems();
+            ObjectDeleteResult result = minioService.deleteObjects(objectNames(list));
 
             for (UploadFile file : list) {
-                try {
-                    minioService.deleteObject(file.getObjectName());
+                if (result.isDeleted(file.getObjectName())) {
                     file.markDeleted();
-                } catch (Exception e) {
-                    log.warn("TEMP 파일 MinIO 삭제 실패. uploadFileId={}, objectName={}",
-                            file.getId(), file.getObjectName(), e);
+                } else {
+                    log.warn("TEMP 파일 MinIO 삭제 실패. uploadFileId={}, objectName={}, reason={}",
+                            file.getId(), file.getObjectName(), result.failed().get(file.getObjectName()));
                 }
             }
 
@@ -141,15 +137,15 @@ public class UploadFileCleanupJobConfig {
     public ItemWriter<UploadFile> deletedFilesWriter() {
         return items -> {
             var list = items.getItems();
+            ObjectDeleteResult result = minioService.deleteObjects(objectNames(list));
             var successIds = new ArrayList<Long>();
 
             for (UploadFile file : list) {
-                try {
-                    minioService.deleteObject(file.getObjectName());
+                if (result.isDeleted(file.getObjectName())) {
                     successIds.add(file.getId());
-                } catch (Exception e) {
-                    log.warn("DELETED 파일 MinIO 삭제 실패. uploadFileId={}, objectName={}",
-                            file.getId(), file.getObjectName(), e);
+                } else {
+                    log.warn("DELETED 파일 MinIO 삭제 실패. uploadFileId={}, objectName={}, reason={}",
+                            file.getId(), file.getObjectName(), result.failed().get(file.getObjectName()));
                 }
             }
 
@@ -158,4 +154,10 @@ public class UploadFileCleanupJobConfig {
             }
         };
     }
+
+    private static List<String> objectNames(List<? extends UploadFile> files) {
+        return files.stream()
+                .map(UploadFile::getObjectName)
+                .toList();
+    }
 }
@@ -0,0 +1,24 @@
+package com.shcho.myBlog.common.config;
+
+import com.shcho.myBlog.common.interceptor.PublicContentVersionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final PublicContentVersionInterceptor publicContentVersionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(publicContentVersionInterceptor)
+                .addPathPatterns(
+                        "/api/posts/public/**",
+                        "/api/blog/public/**",
+                        "/api/category/public/**"
+                );
+    }
+}
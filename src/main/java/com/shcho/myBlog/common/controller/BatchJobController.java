@@ -0,0 +1,27 @@
+package com.shcho.myBlog.common.controller;
+
+import com.shcho.myBlog.common.dto.BatchJobResponseDto;
+import com.shcho.myBlog.common.service.BatchJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/batch")
+@RequiredArgsConstructor
+public class BatchJobController {
+
+    private final BatchJobService batchJobService;
+
+    @PostMapping("/jobs/{jobName}")
+    public ResponseEntity<BatchJobResponseDto> runJob(
+            @PathVariable String jobName
+    ) {
+        JobExecution execution = batchJobService.run(jobName);
+        return ResponseEntity.ok(BatchJobResponseDto.from(execution));
+    }
+}
@@ -0,0 +1,17 @@
+package com.shcho.myBlog.common.dto;
+
+import org.springframework.batch.core.JobExecution;
+
+public record BatchJobResponseDto(
+        String jobName,
+        Long executionId,
+        String status
+) {
+    public static BatchJobResponseDto from(JobExecution execution) {
+        return new BatchJobResponseDto(
+                execution.getJobInstance().getJobName(),
+                execution.getId(),
+                execution.getStatus().name()
+        );
+    }
+}
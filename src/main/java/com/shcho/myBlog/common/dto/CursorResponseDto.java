@@ -0,0 +1,25 @@
+package com.shcho.myBlog.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorResponseDto<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    // rows는 size + 1개까지 조회한 결과, 초과분이 있으면 다음 페이지가 존재
+    public static <T> CursorResponseDto<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorResponseDto<>(
+                content,
+                size,
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.shcho.myBlog.common.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+// MinIO 일괄 삭제 결과, failed는 객체 이름 -> 실패 사유
+public record ObjectDeleteResult(
+        Set<String> deleted,
+        Map<String, String> failed
+) {
+    public boolean isDeleted(String objectName) {
+        return deleted.contains(objectName);
+    }
+}
@@ -0,0 +1,11 @@
+package com.shcho.myBlog.common.dto;
+
+import java.util.List;
+
+// 페이지 번호 기반 목록 응답, withTotal 여부에 따라 PagedResponseDto 또는 SliceResponseDto
+public sealed interface PageableResponseDto<T> permits PagedResponseDto, SliceResponseDto {
+
+    List<T> content();
+
+    boolean hasNext();
+}
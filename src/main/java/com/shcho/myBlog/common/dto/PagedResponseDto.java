@@ -12,7 +12,7 @@ public record PagedResponseDto<T>(
         long totalElements,
         int totalPages,
         boolean hasNext
-) {
+) implements PageableResponseDto<T> {
     public static <T> PagedResponseDto<T> from(Page<T> page) {
         return new PagedResponseDto<>(
                 page.getContent(),
@@ -0,0 +1,22 @@
+package com.shcho.myBlog.common.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+// 전체 개수 없이 다음 페이지 존재 여부만 담는 응답 (withTotal=false)
+public record SliceResponseDto<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext
+) implements PageableResponseDto<T> {
+    public static <T> SliceResponseDto<T> from(Slice<T> slice) {
+        return new SliceResponseDto<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext()
+        );
+    }
+}
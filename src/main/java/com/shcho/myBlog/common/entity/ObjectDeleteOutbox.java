@@ -0,0 +1,61 @@
+package com.shcho.myBlog.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * MinIO 객체 삭제 요청. 파일을 DELETED로 바꾸는 트랜잭션 안에서 함께 저장되고,
+ * 커밋 이후 ObjectDeleteOutboxDispatcher가 객체를 지운 뒤 행을 삭제한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(
+        indexes = {
+                // 처리 대상 조회: next_attempt_at <= now order by id
+                @Index(name = "idx_object_delete_outbox_next_attempt", columnList = "next_attempt_at, id")
+        }
+)
+public class ObjectDeleteOutbox extends BaseEntity {
+
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectName;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = LAST_ERROR_LENGTH)
+    private String lastError;
+
+    public static ObjectDeleteOutbox of(String objectName, LocalDateTime now) {
+        return ObjectDeleteOutbox.builder()
+                .objectName(objectName)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error == null || error.length() <= LAST_ERROR_LENGTH
+                ? error
+                : error.substring(0, LAST_ERROR_LENGTH);
+    }
+}
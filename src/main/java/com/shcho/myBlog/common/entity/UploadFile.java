@@ -13,6 +13,15 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(
+        indexes = {
+                // 정리 배치: 상태별로 id 순 keyset 조회, 생성/삭제 시각은 인덱스 안에서 거름
+                @Index(name = "idx_upload_file_status_id_created", columnList = "status, id, created_at"),
+                @Index(name = "idx_upload_file_status_id_deleted", columnList = "status, id, deleted_at"),
+                // 게시글 첨부 파일 조회
+                @Index(name = "idx_upload_file_post_status", columnList = "post_id, status")
+        }
+)
 public class UploadFile extends BaseEntity {
 
     @Id
@@ -40,11 +49,6 @@ public class UploadFile extends BaseEntity {
 
     private LocalDateTime deletedAt;
 
-    public void attachToPost(Long postId) {
-        this.postId = postId;
-        this.status = UploadStatus.ATTACHED;
-    }
-
     public void markDeleted() {
         this.status = UploadStatus.DELETED;
         this.deletedAt = LocalDateTime.now();
@@ -0,0 +1,5 @@
+package com.shcho.myBlog.common.event;
+
+// MinIO 객체 삭제 요청이 outbox에 쌓일 때 발행, 커밋 이후 디스패처를 깨우는 데 사용
+public record ObjectDeleteEnqueuedEvent(int count) {
+}
@@ -0,0 +1,72 @@
+package com.shcho.myBlog.common.interceptor;
+
+import com.shcho.myBlog.blog.dto.BlogContentVersionDto;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 공개 조회 API의 조건부 GET 처리.
+ * 블로그 콘텐츠 버전만 조회해서 ETag/Last-Modified가 같으면 핸들러 실행 없이 304로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicContentVersionInterceptor implements HandlerInterceptor {
+
+    private static final String NICKNAME_VARIABLE = "nickname";
+
+    private final BlogContentVersionService blogContentVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        String nickname = nicknameOf(request);
+        if (nickname == null) {
+            return true;
+        }
+
+        // 없는 블로그는 핸들러에서 404 처리
+        Optional<BlogContentVersionDto> version = blogContentVersionService.findByNickname(nickname);
+        if (version.isEmpty()) {
+            return true;
+        }
+
+        // 캐시된 응답도 매번 재검증하도록
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        return !new ServletWebRequest(request, response)
+                .checkNotModified(version.get().etag(), lastModifiedOf(version.get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String nicknameOf(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> map)) {
+            return null;
+        }
+
+        return ((Map<String, String>) map).get(NICKNAME_VARIABLE);
+    }
+
+    private long lastModifiedOf(BlogContentVersionDto version) {
+        if (version.updatedAt() == null) {
+            return -1;
+        }
+
+        return version.updatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
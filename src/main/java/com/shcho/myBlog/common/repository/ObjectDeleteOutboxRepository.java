@@ -0,0 +1,12 @@
+package com.shcho.myBlog.common.repository;
+
+import com.shcho.myBlog.common.entity.ObjectDeleteOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ObjectDeleteOutboxRepository extends JpaRepository<ObjectDeleteOutbox, Long> {
+    List<ObjectDeleteOutbox> findAllByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
@@ -2,17 +2,47 @@ package com.shcho.myBlog.common.repository;
 
 import com.shcho.myBlog.common.entity.UploadFile;
 import com.shcho.myBlog.common.entity.UploadStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface UploadFileRepository extends JpaRepository<UploadFile, Long> {
     List<UploadFile> findAllByPostIdAndStatus(Long postId, UploadStatus status);
 
-    Page<UploadFile> findAllByStatusAndCreatedAtBefore(UploadStatus status, LocalDateTime cutoff, Pageable pageable);
+    // 정리 배치 keyset 조회: lastId 다음부터 id 순으로 pageSize개
+    List<UploadFile> findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            UploadStatus status, LocalDateTime cutoff, Long lastId, Pageable pageable);
 
-    Page<UploadFile> findAllByStatusAndDeletedAtBefore(UploadStatus status, LocalDateTime cutoff, Pageable pageable);
+    List<UploadFile> findAllByStatusAndDeletedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            UploadStatus status, LocalDateTime cutoff, Long lastId, Pageable pageable);
+
+    // 벌크 update는 auditing이 적용되지 않으므로 updatedAt을 직접 갱신
+    @Modifying
+    @Query("""
+            update UploadFile f set f.postId = :postId, f.status = :status, f.updatedAt = :now
+            where f.id in :ids
+            """)
+    int attachAllToPost(
+            @Param("ids") Collection<Long> ids,
+            @Param("postId") Long postId,
+            @Param("status") UploadStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+            update UploadFile f set f.status = :status, f.deletedAt = :now, f.updatedAt = :now
+            where f.id in :ids
+            """)
+    int markAllDeleted(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") UploadStatus status,
+            @Param("now") LocalDateTime now
+    );
 }
@@ -0,0 +1,150 @@
+package com.shcho.myBlog.common.scheduler;
+
+import com.shcho.myBlog.common.dto.ObjectDeleteResult;
+import com.shcho.myBlog.common.entity.ObjectDeleteOutbox;
+import com.shcho.myBlog.common.event.ObjectDeleteEnqueuedEvent;
+import com.shcho.myBlog.common.repository.ObjectDeleteOutboxRepository;
+import com.shcho.myBlog.common.service.MinioService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * object_delete_outbox에 쌓인 MinIO 객체 삭제를 요청 트랜잭션 밖에서 처리한다.
+ * 삭제 요청이 커밋되면 바로 깨어나고, 놓친 요청과 재시도 대상은 주기 실행으로 처리한다.
+ * 실패한 행은 30초부터 두 배씩 늘려 최대 1시간 간격으로 다시 시도한다.
+ * 지표: object.delete.outbox.depth(남은 행 수), object.delete.outbox.dispatched{result=deleted|retry}
+ */
+@Component
+@Slf4j
+public class ObjectDeleteOutboxDispatcher {
+
+    static final int BATCH_SIZE = 100;
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private static final String METRIC_PREFIX = "object.delete.outbox";
+
+    private final ObjectDeleteOutboxRepository objectDeleteOutboxRepository;
+    private final MinioService minioService;
+    private final Executor executor;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter retryCounter;
+
+    // 실행 중에 들어온 깨우기 요청은 pending으로 남겨 실행이 끝난 뒤 한 번 더 돈다
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    public ObjectDeleteOutboxDispatcher(
+            ObjectDeleteOutboxRepository objectDeleteOutboxRepository,
+            MinioService minioService,
+            MeterRegistry meterRegistry,
+            @Qualifier("objectDeleteExecutor") Executor executor
+    ) {
+        this.objectDeleteOutboxRepository = objectDeleteOutboxRepository;
+        this.minioService = minioService;
+        this.executor = executor;
+
+        Gauge.builder(METRIC_PREFIX + ".depth", depth, AtomicLong::get)
+                .description("처리되지 않은 MinIO 객체 삭제 요청 수")
+                .register(meterRegistry);
+        this.deletedCounter = meterRegistry.counter(METRIC_PREFIX + ".dispatched", "result", "deleted");
+        this.retryCounter = meterRegistry.counter(METRIC_PREFIX + ".dispatched", "result", "retry");
+    }
+
+    @TransactionalEventListener
+    public void onEnqueued(ObjectDeleteEnqueuedEvent event) {
+        try {
+            executor.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            // 이미 대기 중인 실행이 함께 처리함
+            pending.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cleanup.outbox-poll-interval-ms:10000}")
+    public void dispatch() {
+        pending.set(true);
+
+        while (pending.get() && running.compareAndSet(false, true)) {
+            try {
+                pending.set(false);
+                drain();
+            } catch (Exception e) {
+                log.error("MinIO 삭제 outbox 처리 실패", e);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        List<ObjectDeleteOutbox> batch;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            batch = objectDeleteOutboxRepository.findAllByNextAttemptAtLessThanEqualOrderByIdAsc(
+                    now, PageRequest.of(0, BATCH_SIZE));
+
+            if (!batch.isEmpty()) {
+                process(batch, now);
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        depth.set(objectDeleteOutboxRepository.count());
+    }
+
+    // 배치 전체를 한 번의 일괄 삭제로 요청하고 실패한 객체의 행만 재시도로 예약
+    private void process(List<ObjectDeleteOutbox> batch, LocalDateTime now) {
+        ObjectDeleteResult result = minioService.deleteObjects(batch.stream()
+                .map(ObjectDeleteOutbox::getObjectName)
+                .toList());
+
+        List<Long> deletedIds = new ArrayList<>(batch.size());
+        List<ObjectDeleteOutbox> failed = new ArrayList<>();
+
+        for (ObjectDeleteOutbox outbox : batch) {
+            if (result.isDeleted(outbox.getObjectName())) {
+                deletedIds.add(outbox.getId());
+                continue;
+            }
+
+            outbox.retryAt(now.plus(backoff(outbox.getAttempts() + 1)), result.failed().get(outbox.getObjectName()));
+            failed.add(outbox);
+            log.warn("MinIO 객체 삭제 재시도 예약. outboxId={}, objectName={}, attempts={}, nextAttemptAt={}",
+                    outbox.getId(), outbox.getObjectName(), outbox.getAttempts(), outbox.getNextAttemptAt());
+        }
+
+        if (!deletedIds.isEmpty()) {
+            objectDeleteOutboxRepository.deleteAllByIdInBatch(deletedIds);
+            deletedCounter.increment(deletedIds.size());
+        }
+        if (!failed.isEmpty()) {
+            objectDeleteOutboxRepository.saveAll(failed);
+            retryCounter.increment(failed.size());
+        }
+    }
+
+    // attempts번째 실패 후 대기 시간: 30s, 1m, 2m, ... 최대 1h
+    static Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << shift);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,34 @@
+package com.shcho.myBlog.common.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterReconcileJobScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job postCounterReconcileJob;
+
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 30 3 * * *}")
+    public void runPostCounterReconcileJob() {
+        Long runAt = System.currentTimeMillis();
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("runAt", runAt)
+                    .toJobParameters();
+
+            jobLauncher.run(postCounterReconcileJob, params);
+            log.info("postCounterReconcileJob 실행 완료. runAt = {}", runAt);
+        } catch (Exception e) {
+            log.error("postCounterReconcileJob 실행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.shcho.myBlog.common.service;
+
+import com.shcho.myBlog.libs.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.BATCH_JOB_LAUNCH_FAILED;
+import static com.shcho.myBlog.libs.exception.ErrorCode.BATCH_JOB_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchJobService {
+
+    private final JobLauncher jobLauncher;
+    private final List<Job> jobs;
+
+    public JobExecution run(String jobName) {
+        Job job = jobs.stream()
+                .filter(j -> j.getName().equals(jobName))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(BATCH_JOB_NOT_FOUND));
+
+        Long runAt = System.currentTimeMillis();
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("runAt", runAt)
+                    .toJobParameters();
+
+            JobExecution execution = jobLauncher.run(job, params);
+            log.info("{} 수동 실행 완료. runAt = {}, status = {}", jobName, runAt, execution.getStatus());
+            return execution;
+        } catch (Exception e) {
+            log.error("{} 수동 실행 실패", jobName, e);
+            throw new CustomException(BATCH_JOB_LAUNCH_FAILED);
+        }
+    }
+}
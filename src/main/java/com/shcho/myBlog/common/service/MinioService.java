@@ -1,10 +1,15 @@
 package com.shcho.myBlog.common.service;
 
+import com.shcho.myBlog.common.dto.ObjectDeleteResult;
 import com.shcho.myBlog.common.entity.UploadType;
 import com.shcho.myBlog.libs.exception.CustomException;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,8 +20,7 @@ import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 
 import static com.shcho.myBlog.common.entity.UploadType.*;
 import static com.shcho.myBlog.libs.exception.ErrorCode.*;
@@ -35,6 +39,9 @@ public class MinioService {
     @Value("${minio.base-url}")
     private String minioBaseUrl;
 
+    // S3 multi-object delete 한 요청의 최대 키 수
+    private static final int MAX_DELETE_OBJECTS = 1000;
+
     private static final long IMAGE_MAX_SIZE = 10L * 1024 * 1024;
     private static final long ATTACH_MAX_SIZE = 50L * 1024 * 1024;
     private static final long PROFILE_MAX_SIZE = 2L * 1024 * 1024;
@@ -94,6 +101,44 @@ public class MinioService {
         }
     }
 
+    // 1000개씩 한 요청으로 삭제하고 객체별 성공/실패를 돌려준다 (없는 객체 삭제는 성공으로 봄)
+    public ObjectDeleteResult deleteObjects(Collection<String> objectNames) {
+        List<String> names = objectNames.stream().distinct().toList();
+        Map<String, String> failed = new LinkedHashMap<>();
+
+        for (int from = 0; from < names.size(); from += MAX_DELETE_OBJECTS) {
+            List<String> chunk = names.subList(from, Math.min(from + MAX_DELETE_OBJECTS, names.size()));
+
+            try {
+                Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                        RemoveObjectsArgs.builder()
+                                .bucket(bucket)
+                                .objects(chunk.stream().map(DeleteObject::new).toList())
+                                .build()
+                );
+
+                // 결과를 순회해야 요청이 실행되고, 실패한 객체만 돌아옴
+                for (Result<DeleteError> result : results) {
+                    DeleteError error = result.get();
+                    failed.put(error.objectName(), error.code() + ": " + error.message());
+                }
+            } catch (Exception e) {
+                log.error("MinIO 일괄 삭제 실패. count = {}, reason = {}", chunk.size(), e.getMessage(), e);
+                for (String name : chunk) {
+                    failed.putIfAbsent(name, e.getMessage());
+                }
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("MinIO 일괄 삭제 중 일부 실패. requested = {}, failed = {}", names.size(), failed.size());
+        }
+
+        Set<String> deleted = new LinkedHashSet<>(names);
+        deleted.removeAll(failed.keySet());
+        return new ObjectDeleteResult(deleted, failed);
+    }
+
     private void validateFile(MultipartFile file, UploadType type) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(FILE_EMPTY);
@@ -0,0 +1,35 @@
+package com.shcho.myBlog.common.service;
+
+import com.shcho.myBlog.common.entity.ObjectDeleteOutbox;
+import com.shcho.myBlog.common.event.ObjectDeleteEnqueuedEvent;
+import com.shcho.myBlog.common.repository.ObjectDeleteOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ObjectDeleteOutboxService {
+
+    private final ObjectDeleteOutboxRepository objectDeleteOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 호출한 트랜잭션과 함께 커밋/롤백되고, 실제 삭제는 커밋 이후 디스패처가 처리
+    @Transactional
+    public void enqueue(Collection<String> objectNames) {
+        if (objectNames == null || objectNames.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ObjectDeleteOutbox> outbox = objectNames.stream()
+                .map(objectName -> ObjectDeleteOutbox.of(objectName, now))
+                .toList();
+
+        objectDeleteOutboxRepository.saveAll(outbox);
+        eventPublisher.publishEvent(new ObjectDeleteEnqueuedEvent(outbox.size()));
+    }
+}
@@ -9,9 +9,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.shcho.myBlog.libs.exception.ErrorCode.FILE_FORBIDDEN;
 import static com.shcho.myBlog.libs.exception.ErrorCode.FILE_NOT_FOUND;
@@ -21,6 +20,7 @@ import static com.shcho.myBlog.libs.exception.ErrorCode.FILE_NOT_FOUND;
 public class UploadFileService {
 
     private final UploadFileRepository uploadFileRepository;
+    private final ObjectDeleteOutboxService objectDeleteOutboxService;
 
     @Transactional
     public Long saveTemp(Long userId, UploadType type, String objectName, String url) {
@@ -36,19 +36,19 @@ public class UploadFileService {
         return uploadFileRepository.save(uploadFile).getId();
     }
 
+    // 한 번에 조회해 메모리에서 검증하고 한 번의 update로 첨부
     @Transactional
-    public void attachFilesToPost(Long userId, Long postId, String content) {
-        Set<Long> fids = extractFids(content);
+    public void attachFilesToPost(Long userId, Long postId, Set<Long> fids) {
         if (fids.isEmpty()) {
             return;
         }
 
-        List<UploadFile> toUpload = new ArrayList<>(fids.size());
-
-        for (Long fid : fids) {
-            UploadFile file = uploadFileRepository.findById(fid)
-                    .orElseThrow(() -> new CustomException(FILE_NOT_FOUND));
+        List<UploadFile> files = uploadFileRepository.findAllById(fids);
+        if (files.size() != fids.size()) {
+            throw new CustomException(FILE_NOT_FOUND);
+        }
 
+        for (UploadFile file : files) {
             if (file.getStatus() == UploadStatus.DELETED) {
                 throw new CustomException(FILE_NOT_FOUND);
             }
@@ -56,47 +56,28 @@ public class UploadFileService {
             if (!Objects.equals(file.getUserId(), userId)) {
                 throw new CustomException(FILE_FORBIDDEN);
             }
-
-            file.attachToPost(postId);
-            toUpload.add(file);
         }
 
-        uploadFileRepository.saveAll(toUpload);
-    }
-
-    public Set<Long> extractFids(String content) {
-        if (content == null || content.isBlank()) {
-            return Collections.emptySet();
-        }
-
-        // (?!) 대소문자 무시
-        Pattern pattern = Pattern.compile("(?i)[?&]fid=(\\d+)");
-        Matcher matcher = pattern.matcher(content);
-
-        Set<Long> result = new LinkedHashSet<>();
-        while (matcher.find()) {
-            String raw = matcher.group(1);
-            try {
-                result.add(Long.parseLong(raw));
-            } catch (NumberFormatException ignored) {
-
-            }
-        }
-        return result;
+        uploadFileRepository.attachAllToPost(fids, postId, UploadStatus.ATTACHED, LocalDateTime.now());
     }
 
     public List<UploadFile> getAttachedFilesByPostId(Long postId) {
         return uploadFileRepository.findAllByPostIdAndStatus(postId, UploadStatus.ATTACHED);
     }
 
+    // MinIO 객체는 같은 트랜잭션에 쌓은 outbox를 통해 커밋 이후 삭제
     @Transactional
-    public void markDeletedAndSaveAll(List<UploadFile> files) {
+    public void markAllDeleted(List<UploadFile> files) {
         if (files == null || files.isEmpty()) return;
 
-        for (UploadFile file : files) {
-            file.markDeleted();
-        }
-        uploadFileRepository.saveAll(files);
+        List<Long> ids = files.stream()
+                .map(UploadFile::getId)
+                .toList();
+        uploadFileRepository.markAllDeleted(ids, UploadStatus.DELETED, LocalDateTime.now());
+
+        objectDeleteOutboxService.enqueue(files.stream()
+                .map(UploadFile::getObjectName)
+                .toList());
     }
 
     public String appendFid(String url, Long fileId) {
@@ -0,0 +1,79 @@
+package com.shcho.myBlog.common.util;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * id 오름차순으로 "id > 마지막으로 읽은 id" 조건을 걸어 다음 페이지를 읽는 배치 ItemReader.
+ * OFFSET이 없어 몇 번째 페이지든 읽는 비용이 같고, 앞선 청크가 조회 조건에서 빠지도록 행을 바꿔도 뒤의 행을 건너뛰지 않는다.
+ * 재시작하면 마지막으로 커밋된 청크의 id 다음부터 읽는다.
+ */
+public class KeysetItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String LAST_ID_KEY = "last.id";
+
+    private final int pageSize;
+    private final Function<T, Long> idExtractor;
+    private final PageQuery<T> pageQuery;
+
+    private long lastId;
+    private Iterator<T> page = Collections.emptyIterator();
+    private boolean lastPage;
+
+    public KeysetItemReader(String name, int pageSize, Function<T, Long> idExtractor, PageQuery<T> pageQuery) {
+        Assert.isTrue(pageSize > 0, "pageSize must be greater than 0");
+        setName(name);
+        this.pageSize = pageSize;
+        this.idExtractor = idExtractor;
+        this.pageQuery = pageQuery;
+    }
+
+    @Override
+    public T read() {
+        if (!page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+
+            List<T> items = pageQuery.fetch(lastId, pageSize);
+            lastPage = items.size() < pageSize;
+            page = items.iterator();
+
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        T item = page.next();
+        lastId = idExtractor.apply(item);
+        return item;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        super.open(executionContext);
+        lastId = executionContext.getLong(getExecutionContextKey(LAST_ID_KEY), 0L);
+        page = Collections.emptyIterator();
+        lastPage = false;
+    }
+
+    // 청크 커밋 직후 호출되므로 저장되는 id는 커밋된 마지막 항목의 id
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+    }
+
+    @FunctionalInterface
+    public interface PageQuery<T> {
+        // id가 lastId보다 큰 행을 id 오름차순으로 최대 pageSize개
+        List<T> fetch(long lastId, int pageSize);
+    }
+}
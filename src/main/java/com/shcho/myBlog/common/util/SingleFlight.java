@@ -0,0 +1,81 @@
+package com.shcho.myBlog.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나의 실행으로 합친다.
+ * 먼저 들어온 호출(leader)만 로더를 실행하고, 나머지는 그 결과나 예외를 그대로 공유한다.
+ * 결과를 보관하지 않으므로 실행이 끝난 뒤의 호출은 다시 로더를 실행한다.
+ * 스레드 간에 결과가 공유되므로 엔티티가 아닌 DTO를 반환하는 로더에만 사용한다.
+ * 지표: singleflight.calls{name, result=leader|shared}
+ */
+@Component
+public class SingleFlight {
+
+    private static final String METRIC_NAME = "singleflight.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Supplier<T> loader, Object... keyParts) {
+        FlightKey key = new FlightKey(name, Arrays.asList(keyParts));
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            counter(name, "shared").increment();
+            return (T) await(existing);
+        }
+
+        counter(name, "leader").increment();
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record FlightKey(String name, List<Object> parts) {
+    }
+}
@@ -14,6 +14,8 @@ public enum ErrorCode {
     POST_CAN_NOT_USE_NON_LEAF_CATEGORY(400, "POST_001", "게시글은 리프 카테고리가 아니면 사용할 수 없습니다."),
     INVALID_KEYWORD(400, "POST_003", "검색 키워드는 공백일 수 없습니다."),
     TITLE_CAN_NOT_BLANK(400, "POST_004", "게시글 제목은 공백일 수 없습니다."),
+    INVALID_CURSOR(400, "POST_005", "유효하지 않은 커서입니다."),
+    INVALID_POST_IDS(400, "POST_006", "조회할 게시글 id는 1개 이상 50개 이하여야 합니다."),
     FILE_EMPTY(400, "FILE_001", "파일이 비어있습니다."),
     FILE_TOO_LARGE(400, "FILE_002", "파일 용량이 제한을 초과했습니다."),
     INVALID_FILE_EXTENSION(400, "FILE_003", "허용되지 않은 파일 확장자입니다."),
@@ -35,6 +37,7 @@ public enum ErrorCode {
     PARENT_CATEGORY_NOT_FOUND(404, "CATEGORY_009", "부모 카테고리를 찾을 수 없습니다."),
     POST_NOT_FOUND(404, "POST_002", "게시글을 찾을 수 없습니다."),
     FILE_NOT_FOUND(404, "FILE_005", "파일을 찾을 수 없습니다."),
+    BATCH_JOB_NOT_FOUND(404, "BATCH_001", "배치 작업을 찾을 수 없습니다."),
 
     /* 409 Conflict*/
     DUPLICATED_USERNAME(409, "USER_003", "이미 사용 중인 아이디 입니다."),
@@ -49,7 +52,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(500, "COMMON_500", "서버 오류가 발생했습니다."),
     JWT_KEY_ERROR(500, "AUTH_500", "JWT 키가 유효하지 않습니다."),
     FILE_UPLOAD_FAILED(500, "FILE_004", "파일 업로드에 실패 했습니다."),
-    FILE_DELETE_FAILED(500, "FILE_007", "파일 삭제에 실패했습니다.");
+    FILE_DELETE_FAILED(500, "FILE_007", "파일 삭제에 실패했습니다."),
+    BATCH_JOB_LAUNCH_FAILED(500, "BATCH_002", "배치 작업 실행에 실패했습니다.");
 
     private final Integer httpStatus;
     private final String code;
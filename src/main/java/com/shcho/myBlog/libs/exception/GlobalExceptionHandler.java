@@ -13,10 +13,19 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 public class GlobalExceptionHandler {
 
     // CustomException 처리 - ErrorCode에 정의된 예외 반환
+    // 클라이언트 오류(4xx)는 정상 흐름이므로 ERROR로 남기지 않음, 404는 봇 요청이 많아 DEBUG
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ExceptionResponseDto> handleCustomException(CustomException e) {
-        log.error("CustomException 발생: {}", e.getMessage());
         var errorCode = e.getErrorCode();
+
+        if (errorCode.getHttpStatus() >= 500) {
+            log.error("CustomException 발생: {}", e.getMessage());
+        } else if (errorCode.getHttpStatus() == 404) {
+            log.debug("CustomException 발생: {}", e.getMessage());
+        } else {
+            log.warn("CustomException 발생: {}", e.getMessage());
+        }
+
         return ResponseEntity
                 .status(errorCode.getHttpStatus())
                 .body(ExceptionResponseDto.ofCode(
@@ -43,7 +52,7 @@ public class GlobalExceptionHandler {
     // @Valid, @Validated 관련 Validation 오류 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponseDto> handleValidationException(MethodArgumentNotValidException e) {
-        log.error("Validation 오류 발생: {}", e.getMessage());
+        log.warn("Validation 오류 발생: {}", e.getMessage());
 
         FieldError fieldError = e.getBindingResult().getFieldError();
         String message = (fieldError != null) ? fieldError.getDefaultMessage() : "잘못된 요청입니다.";
@@ -0,0 +1,45 @@
+package com.shcho.myBlog.post.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 공개 상세 조회에서 없거나 비공개인 게시글 id를 짧게 기억하는 negative 캐시.
+ * 임의 게시글 id 요청이 반복돼도 DB를 다시 조회하지 않는다.
+ * 키에 PostQueryCache의 블로그 세대를 넣으므로 게시글 생성/공개 여부 변경으로 세대가 올라가면 기존 항목은 조회되지 않는다.
+ * 세대는 조회 쿼리 전에 읽은 값을 쓰므로, 변경 전에 시작된 조회가 변경 후에 기록해도 새 세대에는 남지 않는다.
+ */
+@Component
+public class MissingPostCache {
+
+    public static final String CACHE_NAME = "missingPost";
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(60);
+
+    private final Cache<MissingPostKey, Boolean> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    public MissingPostCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean isMissing(Long blogId, long generation, Long postId) {
+        return cache.getIfPresent(new MissingPostKey(blogId, generation, postId)) != null;
+    }
+
+    public void markMissing(Long blogId, long generation, Long postId) {
+        cache.put(new MissingPostKey(blogId, generation, postId), Boolean.TRUE);
+    }
+
+    private record MissingPostKey(Long blogId, long generation, Long postId) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.shcho.myBlog.post.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shcho.myBlog.blog.event.BlogContentChangedEvent;
+import com.shcho.myBlog.common.dto.CursorResponseDto;
+import com.shcho.myBlog.post.dto.PostBatchResponseDto;
+import com.shcho.myBlog.post.dto.PostDetailResponseDto;
+import com.shcho.myBlog.post.dto.PostResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공개 게시글 조회 결과(DTO)의 블로그 단위 캐시.
+ * 키는 (블로그 id, 블로그 세대, 조회 메서드, 인자)이며 응답 크기 추정치로 용량을 제한한다.
+ * 블로그 콘텐츠 버전이 올라가면 커밋 이후 세대를 올려 해당 블로그의 기존 항목이 조회되지 않게 한다.
+ * 전체 키를 훑어 지우지 않으므로 쓰기 요청마다 캐시 크기에 비례한 비용이 들지 않는다.
+ * 지표는 cache.gets / cache.evictions 등 cache="postQuery" 태그로 노출된다.
+ */
+@Component
+public class PostQueryCache {
+
+    public static final String CACHE_NAME = "postQuery";
+
+    // 응답 크기 추정치 (바이트)
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int THUMBNAIL_ROW_WEIGHT = 512;
+    private static final int DETAIL_OVERHEAD = 512;
+
+    private final Cache<PostQueryKey, Object> cache;
+    private final ConcurrentMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public PostQueryCache(
+            MeterRegistry meterRegistry,
+            @Value("${post.query-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${post.query-cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((PostQueryKey key, Object value) -> weigh(value))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 같은 키에 대한 동시 miss는 한 번만 로드됨, 로더 예외는 캐시하지 않고 그대로 전파
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long blogId, String method, Supplier<T> loader, Object... args) {
+        PostQueryKey key = new PostQueryKey(blogId, generationOf(blogId).get(), method, Arrays.asList(args));
+        return (T) cache.get(key, k -> loader.get());
+    }
+
+    // 세대만 올리면 이전 세대 항목은 더 이상 조회되지 않음, 남은 항목은 용량/만료로 밀려남
+    // 진행 중이던 로드 결과도 이전 세대 키로 들어가므로 새 키로 조회되지 않음
+    public void invalidate(Long blogId) {
+        generationOf(blogId).incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onBlogContentChanged(BlogContentChangedEvent event) {
+        invalidate(event.blogId());
+    }
+
+    // 블로그 콘텐츠가 바뀔 때마다 올라가는 값, 같은 세대에 묶어야 하는 다른 캐시의 키에 사용
+    public long generation(Long blogId) {
+        return generationOf(blogId).get();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private AtomicLong generationOf(Long blogId) {
+        return generations.computeIfAbsent(blogId, id -> new AtomicLong());
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof PostDetailResponseDto post) {
+            long weight = detailWeight(post.title(), post.content()) + 2L * length(post.contentHtml());
+            return (int) Math.min(Integer.MAX_VALUE, weight);
+        }
+        if (value instanceof PostBatchResponseDto batch) {
+            long weight = ENTRY_OVERHEAD;
+            for (PostResponseDto post : batch.posts()) {
+                weight += detailWeight(post.title(), post.content());
+            }
+            return (int) Math.min(Integer.MAX_VALUE, weight);
+        }
+
+        return ENTRY_OVERHEAD + THUMBNAIL_ROW_WEIGHT * rowCount(value);
+    }
+
+    private static long detailWeight(String title, String content) {
+        long chars = (long) length(title) + length(content);
+        return DETAIL_OVERHEAD + chars * 2;
+    }
+
+    private static int rowCount(Object value) {
+        if (value instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (value instanceof CursorResponseDto<?> cursor) {
+            return cursor.content().size();
+        }
+        if (value instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        return 1;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record PostQueryKey(Long blogId, long generation, String method, List<Object> args) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.shcho.myBlog.post.controller;
 
+import com.shcho.myBlog.common.dto.CursorResponseDto;
+import com.shcho.myBlog.common.dto.PageableResponseDto;
 import com.shcho.myBlog.common.dto.PagedResponseDto;
+import com.shcho.myBlog.common.dto.SliceResponseDto;
 import com.shcho.myBlog.post.dto.*;
 import com.shcho.myBlog.post.entity.Post;
 import com.shcho.myBlog.post.service.PostService;
@@ -9,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -32,46 +36,111 @@ public class PostController {
     }
 
     @GetMapping("/public/{nickname}")
-    public ResponseEntity<PagedResponseDto<PostThumbnailResponseDto>> getAllPostsByUserNickname(
+    public ResponseEntity<PageableResponseDto<PostThumbnailResponseDto>> getAllPostsByUserNickname(
             @PathVariable String nickname,
+            @RequestParam(defaultValue = "true") boolean withTotal,
             Pageable pageable
     ) {
+        if (!withTotal) {
+            Slice<PostThumbnailResponseDto> getAllPostsByNickname =
+                    postService.getPostsByUserNicknameSlice(nickname, pageable);
+            return ResponseEntity.ok(SliceResponseDto.from(getAllPostsByNickname));
+        }
+
         Page<PostThumbnailResponseDto> getAllPostsByNickname =
                 postService.getPostsByUserNickname(nickname, pageable);
         return ResponseEntity.ok(PagedResponseDto.from(getAllPostsByNickname));
     }
 
+    @GetMapping("/public/{nickname}/cursor")
+    public ResponseEntity<CursorResponseDto<PostThumbnailResponseDto>> getAllPostsByUserNicknameWithCursor(
+            @PathVariable String nickname,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponseDto<PostThumbnailResponseDto> getAllPostsByNickname =
+                postService.getPostsByUserNicknameWithCursor(nickname, cursor, size);
+        return ResponseEntity.ok(getAllPostsByNickname);
+    }
+
     @GetMapping("/public/{nickname}/search")
-    public ResponseEntity<PagedResponseDto<PostThumbnailResponseDto>> getAllPostsByNicknameAndKeyword(
+    public ResponseEntity<PageableResponseDto<PostThumbnailResponseDto>> getAllPostsByNicknameAndKeyword(
             @PathVariable String nickname,
             @RequestParam String keyword,
+            @RequestParam(defaultValue = "true") boolean withTotal,
             Pageable pageable
     ) {
+        if (!withTotal) {
+            Slice<PostThumbnailResponseDto> getAllPostsByNicknameAndKeyword =
+                    postService.getPostsByUserNicknameAndKeywordSlice(nickname, keyword, pageable);
+            return ResponseEntity.ok(SliceResponseDto.from(getAllPostsByNicknameAndKeyword));
+        }
+
         Page<PostThumbnailResponseDto> getAllPostsByNicknameAndKeyword =
                 postService.getPostsByUserNicknameAndKeyword(nickname, keyword, pageable);
         return ResponseEntity.ok(PagedResponseDto.from(getAllPostsByNicknameAndKeyword));
     }
 
+    @GetMapping("/public/{nickname}/search/cursor")
+    public ResponseEntity<CursorResponseDto<PostThumbnailResponseDto>> getAllPostsByNicknameAndKeywordWithCursor(
+            @PathVariable String nickname,
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponseDto<PostThumbnailResponseDto> getAllPostsByNicknameAndKeyword =
+                postService.getPostsByUserNicknameAndKeywordWithCursor(nickname, keyword, cursor, size);
+        return ResponseEntity.ok(getAllPostsByNicknameAndKeyword);
+    }
+
     @GetMapping("/public/{nickname}/posts/{postId}")
-    public ResponseEntity<PostResponseDto> getPostByNicknameAndPostId(
+    public ResponseEntity<PostDetailResponseDto> getPostByNicknameAndPostId(
             @PathVariable String nickname,
             @PathVariable Long postId
     ) {
-        Post post = postService.getPostByNicknameAndPostId(nickname, postId);
-        return ResponseEntity.ok(PostResponseDto.from(post));
+        PostDetailResponseDto post = postService.getPostByNicknameAndPostId(nickname, postId);
+        return ResponseEntity.ok(post);
+    }
+
+    @GetMapping("/public/{nickname}/posts")
+    public ResponseEntity<PostBatchResponseDto> getPostsByNicknameAndPostIds(
+            @PathVariable String nickname,
+            @RequestParam List<Long> ids
+    ) {
+        PostBatchResponseDto posts = postService.getPostsByNicknameAndPostIds(nickname, ids);
+        return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/public/{nickname}/categories/{categoryId}")
-    public ResponseEntity<PagedResponseDto<PostThumbnailResponseDto>> getAllPostsByCategoryId(
+    public ResponseEntity<PageableResponseDto<PostThumbnailResponseDto>> getAllPostsByCategoryId(
             @PathVariable String nickname,
             @PathVariable Long categoryId,
+            @RequestParam(defaultValue = "true") boolean withTotal,
             Pageable pageable
     ) {
+        if (!withTotal) {
+            Slice<PostThumbnailResponseDto> getAllPostsByCategoryId =
+                    postService.getPostsByUserNicknameAndCategoryIdSlice(nickname, categoryId, pageable);
+            return ResponseEntity.ok(SliceResponseDto.from(getAllPostsByCategoryId));
+        }
+
         Page<PostThumbnailResponseDto> getAllPostsByCategoryId =
                 postService.getPostsByUserNicknameAndCategoryId(nickname, categoryId, pageable);
         return ResponseEntity.ok(PagedResponseDto.from(getAllPostsByCategoryId));
     }
 
+    @GetMapping("/public/{nickname}/categories/{categoryId}/cursor")
+    public ResponseEntity<CursorResponseDto<PostThumbnailResponseDto>> getAllPostsByCategoryIdWithCursor(
+            @PathVariable String nickname,
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponseDto<PostThumbnailResponseDto> getAllPostsByCategoryId =
+                postService.getPostsByUserNicknameAndCategoryIdWithCursor(nickname, categoryId, cursor, size);
+        return ResponseEntity.ok(getAllPostsByCategoryId);
+    }
+
     @GetMapping("/public/{nickname}/thumbnails")
     public ResponseEntity<List<PostRecentThumbnailResponseDto>> getRecentPostThumbnailsByNickname(
             @PathVariable String nickname,
@@ -84,16 +153,35 @@ public class PostController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<PagedResponseDto<PostThumbnailResponseDto>> getMyPosts(
+    public ResponseEntity<PageableResponseDto<PostThumbnailResponseDto>> getMyPosts(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) Boolean publicPost,
+            @RequestParam(defaultValue = "true") boolean withTotal,
             Pageable pageable
     ) {
+        if (!withTotal) {
+            Slice<PostThumbnailResponseDto> getMyAllPosts =
+                    postService.getMyAllPostsSlice(userDetails.getUserId(), publicPost, pageable);
+            return ResponseEntity.ok(SliceResponseDto.from(getMyAllPosts));
+        }
+
         Page<PostThumbnailResponseDto> getMyAllPosts =
                 postService.getMyAllPosts(userDetails.getUserId(), publicPost, pageable);
         return ResponseEntity.ok(PagedResponseDto.from(getMyAllPosts));
     }
 
+    @GetMapping("/me/cursor")
+    public ResponseEntity<CursorResponseDto<PostThumbnailResponseDto>> getMyPostsWithCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Boolean publicPost,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorResponseDto<PostThumbnailResponseDto> getMyAllPosts =
+                postService.getMyAllPostsWithCursor(userDetails.getUserId(), publicPost, cursor, size);
+        return ResponseEntity.ok(getMyAllPosts);
+    }
+
     @GetMapping("/me/posts/{postId}")
     public ResponseEntity<PostResponseDto> getMyPostByPostId(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -124,23 +212,23 @@ public class PostController {
     }
 
     @PatchMapping("/me/posts/{postId}/category")
-    public ResponseEntity<PostResponseDto> updateMyPostCategory(
+    public ResponseEntity<PostMetadataResponseDto> updateMyPostCategory(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long postId,
             @RequestBody UpdatePostCategoryRequestDto requestDto
     ) {
         Post post = postService.updateCategory(userDetails.getUserId(), postId, requestDto);
-        return ResponseEntity.ok(PostResponseDto.from(post));
+        return ResponseEntity.ok(PostMetadataResponseDto.from(post));
     }
 
     @PatchMapping("/me/posts/{postId}/public")
-    public ResponseEntity<PostResponseDto> updateMyPostPublic(
+    public ResponseEntity<PostMetadataResponseDto> updateMyPostPublic(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long postId,
             @Valid @RequestBody UpdatePostPublicRequestDto requestDto
     ) {
         Post post = postService.updatePublic(userDetails.getUserId(), postId, requestDto);
-        return ResponseEntity.ok(PostResponseDto.from(post));
+        return ResponseEntity.ok(PostMetadataResponseDto.from(post));
     }
 
     @DeleteMapping("/me/posts/{postId}")
@@ -0,0 +1,7 @@
+package com.shcho.myBlog.post.dto;
+
+public record AdjacentPostDto(
+        Long postId,
+        String title
+) {
+}
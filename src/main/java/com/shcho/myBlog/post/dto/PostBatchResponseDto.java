@@ -0,0 +1,13 @@
+package com.shcho.myBlog.post.dto;
+
+import java.util.List;
+
+// 요청한 id 순서대로의 게시글과, 없거나 공개되지 않아 조회할 수 없는 id 목록
+public record PostBatchResponseDto(
+        List<PostResponseDto> posts,
+        List<Long> missingPostIds
+) {
+    public static PostBatchResponseDto of(List<PostResponseDto> posts, List<Long> missingPostIds) {
+        return new PostBatchResponseDto(posts, missingPostIds);
+    }
+}
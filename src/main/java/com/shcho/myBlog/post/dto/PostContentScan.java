@@ -0,0 +1,39 @@
+package com.shcho.myBlog.post.dto;
+
+import com.shcho.myBlog.post.entity.Post;
+
+import java.util.List;
+import java.util.Set;
+
+public record PostContentScan(
+        String summary,
+        int wordCount,
+        Set<Long> fids,
+        List<String> imageUrls,
+        List<PostHeading> headings
+) {
+
+    private static final int WORDS_PER_MINUTE = 200;
+
+    // 본문에서 처음 나오는 이미지, data: URI와 컬럼 길이를 넘는 URL은 건너뜀
+    public String thumbnailUrl() {
+        return imageUrls.stream()
+                .filter(url -> url.length() <= Post.THUMBNAIL_URL_LENGTH)
+                .filter(url -> !url.regionMatches(true, 0, "data:", 0, 5))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 분당 200단어 기준 올림, 최소 1분
+    public int readingMinutes() {
+        if (wordCount == 0) {
+            return 0;
+        }
+
+        return Math.max(1, (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+
+    public PostContentSummary contentSummary() {
+        return new PostContentSummary(summary, thumbnailUrl(), readingMinutes());
+    }
+}
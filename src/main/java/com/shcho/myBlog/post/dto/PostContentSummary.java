@@ -0,0 +1,8 @@
+package com.shcho.myBlog.post.dto;
+
+public record PostContentSummary(
+        String summary,
+        String thumbnailUrl,
+        int readingMinutes
+) {
+}
@@ -0,0 +1,45 @@
+package com.shcho.myBlog.post.dto;
+
+import com.shcho.myBlog.libs.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.INVALID_CURSOR;
+
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long postId
+) {
+    private static final String DELIMITER = "|";
+
+    public static PostCursor from(PostThumbnailResponseDto dto) {
+        return new PostCursor(dto.createdAt(), dto.postId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // cursor가 없으면 첫 페이지
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.shcho.myBlog.post.dto;
+
+import com.shcho.myBlog.post.entity.Post;
+
+import java.time.LocalDateTime;
+
+// 공개 게시글 상세 응답, 렌더링된 HTML과 이전/다음 게시글 이동 정보를 함께 내려줌
+public record PostDetailResponseDto(
+        Long postId,
+        Long categoryId,
+        String title,
+        String content,
+        String contentHtml,
+        boolean isPublic,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        AdjacentPostDto previousPost,
+        AdjacentPostDto nextPost
+) {
+    public static PostDetailResponseDto of(Post post, String contentHtml, PostNavigationDto navigation) {
+        return new PostDetailResponseDto(
+                post.getId(),
+                post.getCategory().getId(),
+                post.getTitle(),
+                post.getContent(),
+                contentHtml,
+                post.isPublic(),
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                navigation.previous(),
+                navigation.next()
+        );
+    }
+}
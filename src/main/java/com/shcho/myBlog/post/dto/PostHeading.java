@@ -0,0 +1,7 @@
+package com.shcho.myBlog.post.dto;
+
+public record PostHeading(
+        int level,
+        String text
+) {
+}
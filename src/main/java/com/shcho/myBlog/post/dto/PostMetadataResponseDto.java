@@ -0,0 +1,26 @@
+package com.shcho.myBlog.post.dto;
+
+import com.shcho.myBlog.post.entity.Post;
+
+import java.time.LocalDateTime;
+
+// 본문을 제외한 게시글 정보, 메타데이터 수정 응답용
+public record PostMetadataResponseDto(
+        Long postId,
+        Long categoryId,
+        String title,
+        boolean isPublic,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static PostMetadataResponseDto from(Post post) {
+        return new PostMetadataResponseDto(
+                post.getId(),
+                post.getCategory().getId(),
+                post.getTitle(),
+                post.isPublic(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package com.shcho.myBlog.post.dto;
+
+// 같은 블로그/카테고리의 공개 게시글 중 바로 이전(더 오래된), 다음(더 최근) 게시글, 없으면 null
+public record PostNavigationDto(
+        AdjacentPostDto previous,
+        AdjacentPostDto next
+) {
+}
@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 public record PostRecentThumbnailQueryDto(
         Long postId,
         String title,
-        String content,
+        String summary,
+        String thumbnailUrl,
+        Integer readingMinutes,
         String categoryName,
         LocalDateTime createdAt
 ) {
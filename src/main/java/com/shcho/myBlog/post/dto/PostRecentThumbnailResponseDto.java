@@ -6,7 +6,21 @@ public record PostRecentThumbnailResponseDto(
         Long postId,
         String title,
         String summary,
+        String thumbnailUrl,
+        int readingMinutes,
         String categoryName,
         LocalDateTime createdAt
 ) {
+    public static PostRecentThumbnailResponseDto from(PostRecentThumbnailQueryDto dto) {
+        // 요약 컬럼이 채워지기 전(backfill 전)의 게시글은 빈 요약으로 응답
+        return new PostRecentThumbnailResponseDto(
+                dto.postId(),
+                dto.title(),
+                dto.summary() == null ? "" : dto.summary(),
+                dto.thumbnailUrl(),
+                dto.readingMinutes() == null ? 0 : dto.readingMinutes(),
+                dto.categoryName(),
+                dto.createdAt()
+        );
+    }
 }
@@ -3,7 +3,9 @@ package com.shcho.myBlog.post.entity;
 import com.shcho.myBlog.blog.entity.Blog;
 import com.shcho.myBlog.category.entity.Category;
 import com.shcho.myBlog.common.entity.BaseEntity;
+import com.shcho.myBlog.post.dto.PostContentSummary;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,8 +16,16 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(
+        indexes = {
+                // 블로그 단위 조회 (카운터 재계산, 목록 조회 모델 재생성), blog_id FK 인덱스를 겸함
+                @Index(name = "idx_post_blog_public_created", columnList = "blog_id, is_public, created_at")
+        }
+)
 public class Post extends BaseEntity {
 
+    public static final int THUMBNAIL_URL_LENGTH = 2048;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -23,9 +33,24 @@ public class Post extends BaseEntity {
     @Column(nullable = false, length = 100)
     private String title;
 
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    // 본문은 실제로 필요할 때만 조회한다
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "post_content_id", unique = true)
+    private PostContent postContent;
+
+    // post_content로 옮기기 전의 기존 본문 (postContentMigrationJob 실행 전까지 읽기 전용 대체 값)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "content", columnDefinition = "TEXT", insertable = false)
+    private String legacyContent;
+
+    // 본문 저장 시점에 계산해두는 목록/썸네일용 값
+    @Column(length = 200)
+    private String summary;
+
+    @Column(length = THUMBNAIL_URL_LENGTH)
+    private String thumbnailUrl;
+
+    private Integer readingMinutes;
 
     private boolean isPublic;
 
@@ -44,8 +69,40 @@ public class Post extends BaseEntity {
         this.title = title;
     }
 
+    public String getContent() {
+        return postContent == null ? legacyContent : postContent.getContent();
+    }
+
     public void setContent(String content) {
-        this.content = content;
+        setContent(content, false);
+    }
+
+    public void setContent(String content, boolean compress) {
+        if (postContent == null) {
+            this.postContent = PostContent.of(content, compress);
+            this.legacyContent = null;
+            return;
+        }
+
+        postContent.setContent(content, compress);
+    }
+
+    public void setRenderedHtml(String renderedHtml, int renderedVersion) {
+        postContent.setRenderedHtml(renderedHtml, renderedVersion);
+    }
+
+    public String getRenderedHtml() {
+        return postContent == null ? null : postContent.getRenderedHtml();
+    }
+
+    public boolean isRenderedWith(int version) {
+        return postContent != null && postContent.isRenderedWith(version);
+    }
+
+    public void setContentSummary(PostContentSummary contentSummary) {
+        this.summary = contentSummary.summary();
+        this.thumbnailUrl = contentSummary.thumbnailUrl();
+        this.readingMinutes = contentSummary.readingMinutes();
     }
 
     public void setCategory(Category category) {
@@ -56,13 +113,23 @@ public class Post extends BaseEntity {
         this.isPublic = isPublic;
     }
 
-    public static Post of(Blog blog, Category category, String title, String content, boolean isPublic) {
+    public static Post of(
+            Blog blog, Category category, String title, String content, boolean isPublic, boolean compressContent
+    ) {
         return Post.builder()
                 .title(title)
-                .content(content)
+                .postContent(PostContent.of(content, compressContent))
                 .blog(blog)
                 .category(category)
                 .isPublic(isPublic)
                 .build();
     }
+
+    public static class PostBuilder {
+
+        public PostBuilder content(String content) {
+            this.postContent = PostContent.of(content);
+            return this;
+        }
+    }
 }
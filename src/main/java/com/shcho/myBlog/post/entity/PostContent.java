@@ -0,0 +1,114 @@
+package com.shcho.myBlog.post.entity;
+
+import com.shcho.myBlog.post.util.PostContentCodec;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문. 목록/메타데이터 조회가 TEXT 컬럼을 읽지 않도록 Post와 분리해서 저장한다.
+ * 본문은 원문(content) 또는 압축본(compressedContent) 중 한 곳에만 저장되며, 두 형식의 행이 공존할 수 있다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_content")
+public class PostContent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    // PostContentCodec 포맷 (헤더 1바이트 + 본문)
+    @Lob
+    @Column(name = "compressed_content", columnDefinition = "LONGBLOB")
+    private byte[] compressedContent;
+
+    // PostContentRenderer로 렌더링한 HTML과 렌더러 버전, 본문이 바뀌면 비워짐
+    @Lob
+    @Column(name = "rendered_html", columnDefinition = "MEDIUMTEXT")
+    private String renderedHtml;
+
+    @Column(name = "rendered_version")
+    private Integer renderedVersion;
+
+    // 압축 해제 결과, 처음 읽을 때 한 번만 계산
+    @Transient
+    private String decodedContent;
+
+    public String getContent() {
+        if (compressedContent == null) {
+            return content;
+        }
+
+        if (decodedContent == null) {
+            decodedContent = PostContentCodec.decode(compressedContent);
+        }
+
+        return decodedContent;
+    }
+
+    public boolean isCompressed() {
+        return compressedContent != null;
+    }
+
+    public void setContent(String content) {
+        setContent(content, false);
+    }
+
+    public void setContent(String content, boolean compress) {
+        this.renderedHtml = null;
+        this.renderedVersion = null;
+
+        if (compress && PostContentCodec.shouldCompress(content)) {
+            this.compressedContent = PostContentCodec.encode(content);
+            this.decodedContent = content;
+            this.content = null;
+            return;
+        }
+
+        this.content = content;
+        this.compressedContent = null;
+        this.decodedContent = null;
+    }
+
+    public void setRenderedHtml(String renderedHtml, int renderedVersion) {
+        this.renderedHtml = renderedHtml;
+        this.renderedVersion = renderedVersion;
+    }
+
+    public boolean isRenderedWith(int version) {
+        return renderedHtml != null && renderedVersion != null && renderedVersion == version;
+    }
+
+    // 원문으로 저장된 본문을 압축 형식으로 바꾼다. 바뀌었으면 true
+    // 본문 내용은 그대로이므로 렌더링 결과는 유지
+    public boolean compress() {
+        if (isCompressed() || !PostContentCodec.shouldCompress(content)) {
+            return false;
+        }
+
+        this.compressedContent = PostContentCodec.encode(content);
+        this.decodedContent = content;
+        this.content = null;
+        return true;
+    }
+
+    public static PostContent of(String content) {
+        return of(content, false);
+    }
+
+    public static PostContent of(String content, boolean compress) {
+        PostContent postContent = new PostContent();
+        postContent.setContent(content, compress);
+        return postContent;
+    }
+}
@@ -0,0 +1,41 @@
+package com.shcho.myBlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 블로그/카테고리별 게시글 수. 목록 조회 시 COUNT 쿼리 대신 사용한다.
+ * 블로그 전체 수는 해당 블로그의 카테고리별 행을 합산한다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "post_counter",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_post_counter_blog_category", columnNames = {"blog_id", "category_id"})
+        }
+)
+public class PostCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "blog_id", nullable = false)
+    private Long blogId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "public_count", nullable = false)
+    private long publicCount;
+}
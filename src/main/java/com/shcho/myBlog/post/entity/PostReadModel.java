@@ -0,0 +1,73 @@
+package com.shcho.myBlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록/썸네일 조회용 비정규화 테이블. 게시글 한 건당 한 행이며 post/blog/user/category 조인 없이 조회한다.
+ * 게시글, 카테고리 이름, 닉네임을 바꾸는 쓰기와 같은 트랜잭션에서 갱신되고, postReadModelRebuildJob으로 다시 채울 수 있다.
+ * 목록 인덱스는 썸네일 응답 컬럼(category_name, title)까지 포함해서 테이블 행을 읽지 않는다.
+ */
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "post_read_model",
+        indexes = {
+                @Index(
+                        name = "idx_post_read_model_blog_public_created",
+                        columnList = "blog_id, is_public, created_at, post_id, category_name, title"
+                ),
+                @Index(
+                        name = "idx_post_read_model_blog_category_public_created",
+                        columnList = "blog_id, category_id, is_public, created_at, post_id, category_name, title"
+                )
+        }
+)
+public class PostReadModel {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "blog_id", nullable = false)
+    private Long blogId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private String nickname;
+
+    @Column(name = "category_name", nullable = false, length = 50)
+    private String categoryName;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 200)
+    private String summary;
+
+    @Column(name = "thumbnail_url", length = Post.THUMBNAIL_URL_LENGTH)
+    private String thumbnailUrl;
+
+    @Column(name = "reading_minutes")
+    private Integer readingMinutes;
+
+    @Column(name = "is_public", nullable = false)
+    private boolean isPublic;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isPublic() {
+        return this.isPublic;
+    }
+}
@@ -0,0 +1,39 @@
+package com.shcho.myBlog.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "post_search_token",
+        indexes = {
+                @Index(name = "idx_post_search_token_blog_token", columnList = "blog_id, token"),
+                @Index(name = "idx_post_search_token_post", columnList = "post_id")
+        }
+)
+public class PostSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "blog_id", nullable = false)
+    private Long blogId;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    // 제목 등장 횟수 * 제목 가중치 + 본문 등장 횟수(상한 적용)
+    @Column(nullable = false)
+    private Integer weight;
+}
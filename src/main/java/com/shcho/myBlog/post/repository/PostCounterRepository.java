@@ -0,0 +1,45 @@
+package com.shcho.myBlog.post.repository;
+
+import com.shcho.myBlog.post.entity.PostCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PostCounterRepository extends JpaRepository<PostCounter, Long> {
+
+    List<PostCounter> findAllByBlogId(Long blogId);
+
+    // 행이 없으면 생성, 있으면 증감 (uk_post_counter_blog_category 기준)
+    @Modifying
+    @Query(value = """
+            insert into post_counter (blog_id, category_id, total_count, public_count)
+            values (:blogId, :categoryId, :totalDelta, :publicDelta)
+            on duplicate key update
+                total_count = total_count + :totalDelta,
+                public_count = public_count + :publicDelta
+            """, nativeQuery = true)
+    void addCounts(
+            @Param("blogId") Long blogId,
+            @Param("categoryId") Long categoryId,
+            @Param("totalDelta") long totalDelta,
+            @Param("publicDelta") long publicDelta
+    );
+
+    @Modifying
+    @Query("delete from PostCounter c where c.blogId = :blogId")
+    void deleteAllByBlogId(@Param("blogId") Long blogId);
+
+    // post 테이블 기준으로 블로그의 카테고리별 수를 다시 계산
+    @Modifying
+    @Query(value = """
+            insert into post_counter (blog_id, category_id, total_count, public_count)
+            select p.blog_id, p.category_id, count(*), sum(case when p.is_public then 1 else 0 end)
+            from post p
+            where p.blog_id = :blogId
+            group by p.blog_id, p.category_id
+            """, nativeQuery = true)
+    void recountByBlogId(@Param("blogId") Long blogId);
+}
@@ -1,136 +1,287 @@
 package com.shcho.myBlog.post.repository;
 
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shcho.myBlog.post.dto.AdjacentPostDto;
+import com.shcho.myBlog.post.dto.PostCursor;
+import com.shcho.myBlog.post.dto.PostNavigationDto;
 import com.shcho.myBlog.post.dto.PostRecentThumbnailQueryDto;
 import com.shcho.myBlog.post.dto.PostThumbnailResponseDto;
 import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.util.NgramTokenizer;
+import com.shcho.myBlog.post.util.NgramTokenizer.QueryTokens;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.shcho.myBlog.blog.entity.QBlog.blog;
 import static com.shcho.myBlog.category.entity.QCategory.category;
 import static com.shcho.myBlog.post.entity.QPost.post;
+import static com.shcho.myBlog.post.entity.QPostContent.postContent;
+import static com.shcho.myBlog.post.entity.QPostCounter.postCounter;
+import static com.shcho.myBlog.post.entity.QPostReadModel.postReadModel;
+import static com.shcho.myBlog.post.entity.QPostSearchToken.postSearchToken;
 import static com.shcho.myBlog.post.repository.predicate.PostPredicates.*;
-import static com.shcho.myBlog.user.entity.QUser.user;
+import static com.shcho.myBlog.post.repository.predicate.PostReadModelPredicates.*;
 
+// 목록/썸네일 조회는 post_read_model, 상세/소유권 확인 조회는 post 기준
 @Repository
 @RequiredArgsConstructor
 public class PostQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    public Page<PostThumbnailResponseDto> findPostThumbnailsByNickname(String nickname, Pageable pageable) {
+    public Page<PostThumbnailResponseDto> findPostThumbnailsByBlogId(Long blogId, Pageable pageable) {
 
         BooleanExpression[] conditions = new BooleanExpression[]{
-                nicknameEq(nickname),
-                isPublicOnly()
+                blogIdEq(blogId),
+                publicOnly()
         };
 
         List<PostThumbnailResponseDto> content = baseThumbnailQuery()
                 .where(conditions)
-                .orderBy(post.createdAt.desc())
+                .orderBy(latestFirst())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> countQuery = baseCountQuery()
-                .where(conditions);
+        // 전체 개수는 COUNT 대신 post_counter 합계
+        JPAQuery<Long> countQuery = baseCounterQuery(postCounter.publicCount)
+                .where(postCounter.blogId.eq(blogId));
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
-    public Page<PostThumbnailResponseDto> findPostThumbnailsByNicknameAndKeyword(String nickname, String keyword, Pageable pageable) {
+    public Slice<PostThumbnailResponseDto> findPostThumbnailsByBlogIdSlice(Long blogId, Pageable pageable) {
 
         BooleanExpression[] conditions = new BooleanExpression[]{
-                nicknameEq(nickname),
-                keywordInTitleOrContent(keyword),
-                isPublicOnly()
+                blogIdEq(blogId),
+                publicOnly()
         };
 
-        List<PostThumbnailResponseDto> content = baseThumbnailQuery()
-                .where(conditions)
-                .orderBy(post.createdAt.desc())
+        return fetchSlice(baseThumbnailQuery().where(conditions), pageable);
+    }
+
+    // 검색 색인에서 요청 페이지에 해당하는 게시글 id만 점수순으로 조회한 뒤 썸네일로 조회
+    public Page<PostThumbnailResponseDto> findPostThumbnailsByBlogIdAndKeyword(Long blogId, String keyword, Pageable pageable) {
+
+        QueryTokens tokens = NgramTokenizer.queryTokens(keyword);
+
+        List<Long> pagePostIds = rankedPostIdQuery(blogId, tokens)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> countQuery = baseCountQuery()
-                .where(conditions);
+        JPAQuery<Long> countQuery = queryFactory
+                .select(postReadModel.count())
+                .from(postReadModel)
+                .where(
+                        blogIdEq(blogId),
+                        publicOnly(),
+                        keywordMatches(blogId, tokens)
+                );
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(findPostThumbnailsInOrder(pagePostIds), pageable, countQuery::fetchOne);
     }
 
-    public Optional<Post> findPostByNicknameAndPostId(String nickname, Long postId) {
+    public Slice<PostThumbnailResponseDto> findPostThumbnailsByBlogIdAndKeywordSlice(
+            Long blogId, String keyword, Pageable pageable
+    ) {
+
+        QueryTokens tokens = NgramTokenizer.queryTokens(keyword);
+        int size = pageable.getPageSize();
+
+        List<Long> rankedPostIds = rankedPostIdQuery(blogId, tokens)
+                .offset(pageable.getOffset())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = rankedPostIds.size() > size;
+        List<Long> pagePostIds = hasNext ? rankedPostIds.subList(0, size) : rankedPostIds;
+
+        return new SliceImpl<>(findPostThumbnailsInOrder(pagePostIds), pageable, hasNext);
+    }
+
+    public Optional<Post> findPostByBlogIdAndPostId(Long blogId, Long postId) {
 
         BooleanExpression[] conditions = new BooleanExpression[]{
-                nicknameEq(nickname),
+                blogEqBlogId(blogId),
                 postEqPostId(postId),
                 isPublicOnly()
         };
 
         Post result = queryFactory
                 .selectFrom(post)
-                .join(post.blog, blog).fetchJoin()
-                .join(blog.user, user).fetchJoin()
                 .join(post.category, category).fetchJoin()
+                .leftJoin(post.postContent, postContent).fetchJoin()
                 .where(conditions)
                 .fetchOne();
 
         return Optional.ofNullable(result);
     }
 
-    public Page<PostThumbnailResponseDto> findPostThumbnailsByNicknameAndCategoryId(
-            String nickname, Long categoryId, Pageable pageable
+    // 여러 게시글 상세를 IN 한 번으로 조회, 순서는 호출자가 맞춤
+    public List<Post> findPostsByBlogIdAndPostIds(Long blogId, List<Long> postIds) {
+
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogEqBlogId(blogId),
+                post.id.in(postIds),
+                isPublicOnly()
+        };
+
+        return queryFactory
+                .selectFrom(post)
+                .join(post.category, category).fetchJoin()
+                .leftJoin(post.postContent, postContent).fetchJoin()
+                .where(conditions)
+                .fetch();
+    }
+
+    // 상세 화면의 이전/다음 게시글, 각각 (blog_id, category_id, is_public, created_at, post_id) 인덱스 한 번 탐색
+    public PostNavigationDto findAdjacentPosts(Long blogId, Long categoryId, PostCursor position) {
+        AdjacentPostDto previous = findAdjacentPost(blogId, categoryId, afterCursor(position), latestFirst());
+        AdjacentPostDto next = findAdjacentPost(blogId, categoryId, beforeCursor(position), oldestFirst());
+
+        return new PostNavigationDto(previous, next);
+    }
+
+    public Page<PostThumbnailResponseDto> findPostThumbnailsByBlogIdAndCategoryId(
+            Long blogId, Long categoryId, Pageable pageable
     ) {
 
         BooleanExpression[] conditions = new BooleanExpression[]{
-                nicknameEq(nickname),
+                blogIdEq(blogId),
                 categoryIdEq(categoryId),
-                categoryBlogEqPostBlog(),
-                isPublicOnly()
+                publicOnly()
         };
 
         List<PostThumbnailResponseDto> content = baseThumbnailQuery()
                 .where(conditions)
-                .orderBy(post.createdAt.desc())
+                .orderBy(latestFirst())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> countQuery = baseCountQuery()
-                .where(conditions);
+        JPAQuery<Long> countQuery = baseCounterQuery(postCounter.publicCount)
+                .where(
+                        postCounter.blogId.eq(blogId),
+                        postCounter.categoryId.eq(categoryId)
+                );
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    public Slice<PostThumbnailResponseDto> findPostThumbnailsByBlogIdAndCategoryIdSlice(
+            Long blogId, Long categoryId, Pageable pageable
+    ) {
+
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogIdEq(blogId),
+                categoryIdEq(categoryId),
+                publicOnly()
+        };
+
+        return fetchSlice(baseThumbnailQuery().where(conditions), pageable);
+    }
+
     public Page<PostThumbnailResponseDto> getMyAllPosts(Long blogId, Boolean publicPost, Pageable pageable) {
         BooleanExpression[] conditions = new BooleanExpression[]{
-                blogEqBlogId(blogId),
-                isPublicEq(publicPost)
+                blogIdEq(blogId),
+                publicEq(publicPost)
         };
 
-        List<PostThumbnailResponseDto> content = baseThumbnailQueryWithoutUserJoin()
+        List<PostThumbnailResponseDto> content = baseThumbnailQuery()
                 .where(conditions)
-                .orderBy(post.createdAt.desc())
+                .orderBy(latestFirst())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPAQuery<Long> countQuery = baseCountQueryWithoutUserJoin()
-                .where(conditions);
+        JPAQuery<Long> countQuery = baseCounterQuery(counterColumn(publicPost))
+                .where(postCounter.blogId.eq(blogId));
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    public Slice<PostThumbnailResponseDto> getMyAllPostsSlice(Long blogId, Boolean publicPost, Pageable pageable) {
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogIdEq(blogId),
+                publicEq(publicPost)
+        };
+
+        return fetchSlice(baseThumbnailQuery().where(conditions), pageable);
+    }
+
+    // cursor 기반 조회 : 다음 페이지 존재 여부 확인을 위해 size + 1개 조회, count 쿼리 없음
+    public List<PostThumbnailResponseDto> findPostThumbnailsByBlogIdWithCursor(
+            Long blogId, PostCursor cursor, int size
+    ) {
+
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogIdEq(blogId),
+                publicOnly(),
+                afterCursor(cursor)
+        };
+
+        return fetchWithCursor(baseThumbnailQuery().where(conditions), size);
+    }
+
+    public List<PostThumbnailResponseDto> findPostThumbnailsByBlogIdAndKeywordWithCursor(
+            Long blogId, String keyword, PostCursor cursor, int size
+    ) {
+
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogIdEq(blogId),
+                keywordMatches(blogId, NgramTokenizer.queryTokens(keyword)),
+                publicOnly(),
+                afterCursor(cursor)
+        };
+
+        return fetchWithCursor(baseThumbnailQuery().where(conditions), size);
+    }
+
+    public List<PostThumbnailResponseDto> findPostThumbnailsByBlogIdAndCategoryIdWithCursor(
+            Long blogId, Long categoryId, PostCursor cursor, int size
+    ) {
+
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogIdEq(blogId),
+                categoryIdEq(categoryId),
+                publicOnly(),
+                afterCursor(cursor)
+        };
+
+        return fetchWithCursor(baseThumbnailQuery().where(conditions), size);
+    }
+
+    public List<PostThumbnailResponseDto> getMyAllPostsWithCursor(
+            Long blogId, Boolean publicPost, PostCursor cursor, int size
+    ) {
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogIdEq(blogId),
+                publicEq(publicPost),
+                afterCursor(cursor)
+        };
+
+        return fetchWithCursor(baseThumbnailQuery().where(conditions), size);
+    }
+
+    // 소유권 확인/메타데이터 수정용, 본문은 조회하지 않음
     public Optional<Post> getMyPostByBlog(Long blogId, Long postId) {
         BooleanExpression[] conditions = new BooleanExpression[]{
                 blogEqBlogId(blogId),
@@ -147,75 +298,166 @@ public class PostQueryRepository {
         return Optional.ofNullable(result);
     }
 
-    public List<PostRecentThumbnailQueryDto> findRecentPostsByNickname(String nickname, int limit) {
+    public Optional<Post> getMyPostWithContentByBlog(Long blogId, Long postId) {
+        BooleanExpression[] conditions = new BooleanExpression[]{
+                blogEqBlogId(blogId),
+                postEqPostId(postId)
+        };
+
+        Post result = queryFactory
+                .selectFrom(post)
+                .join(post.blog, blog).fetchJoin()
+                .join(post.category, category).fetchJoin()
+                .leftJoin(post.postContent, postContent).fetchJoin()
+                .where(conditions)
+                .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+
+    public List<PostRecentThumbnailQueryDto> findRecentPostsByBlogId(Long blogId, int limit) {
 
         BooleanExpression[] conditions = new BooleanExpression[]{
-                nicknameEq(nickname),
-                isPublicOnly()
+                blogIdEq(blogId),
+                publicOnly()
         };
 
+        return recentPostsQuery()
+                .where(conditions)
+                .orderBy(latestFirst())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<PostRecentThumbnailQueryDto> recentPostsQuery() {
         return queryFactory
                 .select(Projections.constructor(
                         PostRecentThumbnailQueryDto.class,
-                        post.id,
-                        post.title,
-                        post.content,
-                        category.name,
-                        post.createdAt
+                        postReadModel.postId,
+                        postReadModel.title,
+                        postReadModel.summary,
+                        postReadModel.thumbnailUrl,
+                        postReadModel.readingMinutes,
+                        postReadModel.categoryName,
+                        postReadModel.createdAt
                 ))
-                .from(post)
-                .join(post.blog, blog)
-                .join(blog.user, user)
-                .join(post.category, category)
-                .where(conditions)
-                .orderBy(post.createdAt.desc())
-                .limit(limit)
-                .fetch();
+                .from(postReadModel);
     }
 
-    private JPAQuery<PostThumbnailResponseDto> baseThumbnailQuery() {
+    private AdjacentPostDto findAdjacentPost(
+            Long blogId, Long categoryId, BooleanExpression position, OrderSpecifier<?>[] order
+    ) {
         return queryFactory
                 .select(Projections.constructor(
-                        PostThumbnailResponseDto.class,
-                        post.id,            // postId
-                        category.name,      // categoryName
-                        post.title,
-                        post.isPublic,
-                        post.createdAt
+                        AdjacentPostDto.class,
+                        postReadModel.postId,
+                        postReadModel.title
                 ))
-                .from(post)
-                .join(post.blog, blog)
-                .join(blog.user, user)
-                .join(post.category, category);
+                .from(postReadModel)
+                .where(
+                        blogIdEq(blogId),
+                        categoryIdEq(categoryId),
+                        publicOnly(),
+                        position
+                )
+                .orderBy(order)
+                .fetchFirst();
+    }
+
+    // 점수 내림차순, 동점이면 최신 게시글 먼저
+    private JPAQuery<Long> rankedPostIdQuery(Long blogId, QueryTokens tokens) {
+
+        return queryFactory
+                .select(postSearchToken.postId)
+                .from(postSearchToken)
+                .join(postReadModel).on(postReadModel.postId.eq(postSearchToken.postId))
+                .where(
+                        tokenBlogEqBlogId(blogId),
+                        tokenMatches(tokens),
+                        publicOnly()
+                )
+                .groupBy(postSearchToken.postId)
+                .having(allTokensMatched(tokens))
+                .orderBy(postSearchToken.weight.sum().desc(), postSearchToken.postId.desc());
+    }
+
+    private List<PostThumbnailResponseDto> findPostThumbnailsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostThumbnailResponseDto> byId = baseThumbnailQuery()
+                .where(postReadModel.postId.in(postIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(PostThumbnailResponseDto::postId, Function.identity()));
+
+        return postIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // slice 조회 : count 쿼리 대신 size + 1개를 조회해서 다음 페이지 존재 여부만 판단
+    private Slice<PostThumbnailResponseDto> fetchSlice(JPAQuery<PostThumbnailResponseDto> query, Pageable pageable) {
+        int size = pageable.getPageSize();
+
+        List<PostThumbnailResponseDto> rows = query
+                .orderBy(latestFirst())
+                .offset(pageable.getOffset())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<PostThumbnailResponseDto> content = hasNext ? rows.subList(0, size) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private List<PostThumbnailResponseDto> fetchWithCursor(JPAQuery<PostThumbnailResponseDto> query, int size) {
+        return query
+                .orderBy(latestFirst())
+                .limit(size + 1)
+                .fetch();
     }
 
-    private JPAQuery<PostThumbnailResponseDto> baseThumbnailQueryWithoutUserJoin() {
+    // 조인 없이 post_read_model 한 테이블에서 조회, 목록 인덱스만으로 응답 컬럼을 모두 읽을 수 있음
+    private JPAQuery<PostThumbnailResponseDto> baseThumbnailQuery() {
         return queryFactory
                 .select(Projections.constructor(
                         PostThumbnailResponseDto.class,
-                        post.id,
-                        category.name,
-                        post.title,
-                        post.isPublic,
-                        post.createdAt
+                        postReadModel.postId,
+                        postReadModel.categoryName,
+                        postReadModel.title,
+                        postReadModel.isPublic,
+                        postReadModel.createdAt
                 ))
-                .from(post)
-                .join(post.blog, blog)
-                .join(post.category, category);
+                .from(postReadModel);
     }
 
-    private JPAQuery<Long> baseCountQuery() {
-        return queryFactory
-                .select(post.count())
-                .from(post)
-                .join(post.blog, blog)
-                .join(blog.user, user);
+    // cursor 조회와 같은 (createdAt, postId) 내림차순, 같은 시각의 게시글도 순서가 고정됨
+    private static OrderSpecifier<?>[] latestFirst() {
+        return new OrderSpecifier<?>[]{postReadModel.createdAt.desc(), postReadModel.postId.desc()};
+    }
+
+    private static OrderSpecifier<?>[] oldestFirst() {
+        return new OrderSpecifier<?>[]{postReadModel.createdAt.asc(), postReadModel.postId.asc()};
     }
 
-    private JPAQuery<Long> baseCountQueryWithoutUserJoin() {
+    private JPAQuery<Long> baseCounterQuery(NumberExpression<Long> counterColumn) {
         return queryFactory
-                .select(post.count())
-                .from(post)
-                .join(post.blog, blog);
+                .select(counterColumn.sum().coalesce(0L))
+                .from(postCounter);
+    }
+
+    // 공개 여부 필터에 해당하는 카운터 컬럼, 비공개 수는 전체 - 공개
+    private NumberExpression<Long> counterColumn(Boolean publicPost) {
+        if (publicPost == null) {
+            return postCounter.totalCount;
+        }
+
+        return publicPost
+                ? postCounter.publicCount
+                : postCounter.totalCount.subtract(postCounter.publicCount);
     }
-}
\ No newline at end of file
+}
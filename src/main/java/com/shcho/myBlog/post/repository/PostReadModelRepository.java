@@ -0,0 +1,92 @@
+package com.shcho.myBlog.post.repository;
+
+import com.shcho.myBlog.post.entity.PostReadModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PostReadModelRepository extends JpaRepository<PostReadModel, Long> {
+
+    // 행이 없으면 생성, 있으면 전체 컬럼 교체 (post_id 기준)
+    @Modifying
+    @Query(value = """
+            insert into post_read_model (
+                post_id, blog_id, category_id, nickname, category_name, title,
+                summary, thumbnail_url, reading_minutes, is_public, created_at
+            )
+            values (
+                :postId, :blogId, :categoryId, :nickname, :categoryName, :title,
+                :summary, :thumbnailUrl, :readingMinutes, :isPublic, :createdAt
+            )
+            on duplicate key update
+                blog_id = :blogId,
+                category_id = :categoryId,
+                nickname = :nickname,
+                category_name = :categoryName,
+                title = :title,
+                summary = :summary,
+                thumbnail_url = :thumbnailUrl,
+                reading_minutes = :readingMinutes,
+                is_public = :isPublic,
+                created_at = :createdAt
+            """, nativeQuery = true)
+    void upsert(
+            @Param("postId") Long postId,
+            @Param("blogId") Long blogId,
+            @Param("categoryId") Long categoryId,
+            @Param("nickname") String nickname,
+            @Param("categoryName") String categoryName,
+            @Param("title") String title,
+            @Param("summary") String summary,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("readingMinutes") Integer readingMinutes,
+            @Param("isPublic") boolean isPublic,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+
+    @Modifying
+    @Query("delete from PostReadModel r where r.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("""
+            update PostReadModel r set r.categoryName = :categoryName
+            where r.blogId = :blogId and r.categoryId = :categoryId
+            """)
+    void updateCategoryName(
+            @Param("blogId") Long blogId,
+            @Param("categoryId") Long categoryId,
+            @Param("categoryName") String categoryName
+    );
+
+    @Modifying
+    @Query("""
+            update PostReadModel r set r.nickname = :nickname
+            where r.blogId = (select b.id from Blog b where b.user.userId = :userId)
+            """)
+    void updateNicknameByUserId(@Param("userId") Long userId, @Param("nickname") String nickname);
+
+    @Modifying
+    @Query("delete from PostReadModel r where r.blogId = :blogId")
+    void deleteAllByBlogId(@Param("blogId") Long blogId);
+
+    // post 테이블 기준으로 블로그의 모든 행을 다시 생성
+    @Modifying
+    @Query(value = """
+            insert into post_read_model (
+                post_id, blog_id, category_id, nickname, category_name, title,
+                summary, thumbnail_url, reading_minutes, is_public, created_at
+            )
+            select p.id, p.blog_id, p.category_id, u.nickname, c.name, p.title,
+                   p.summary, p.thumbnail_url, p.reading_minutes, p.is_public, p.created_at
+            from post p
+            join blog b on b.id = p.blog_id
+            join `user` u on u.user_id = b.user_id
+            join category c on c.id = p.category_id
+            where p.blog_id = :blogId
+            """, nativeQuery = true)
+    void rebuildByBlogId(@Param("blogId") Long blogId);
+}
@@ -0,0 +1,20 @@
+package com.shcho.myBlog.post.repository;
+
+import com.shcho.myBlog.post.entity.PostSearchToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostSearchTokenRepository extends JpaRepository<PostSearchToken, Long> {
+
+    @Modifying
+    @Query("delete from PostSearchToken t where t.postId = :postId")
+    void deleteAllByPostId(@Param("postId") Long postId);
+
+    @Query("select t.token from PostSearchToken t where t.postId = :postId and t.token in :tokens")
+    List<String> findTokensByPostId(@Param("postId") Long postId, @Param("tokens") Collection<String> tokens);
+}
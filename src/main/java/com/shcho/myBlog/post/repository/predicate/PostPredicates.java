@@ -1,31 +1,19 @@
 package com.shcho.myBlog.post.repository.predicate;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.shcho.myBlog.post.util.NgramTokenizer.QueryTokens;
 
-import static com.shcho.myBlog.category.entity.QCategory.category;
 import static com.shcho.myBlog.post.entity.QPost.post;
-import static com.shcho.myBlog.user.entity.QUser.user;
+import static com.shcho.myBlog.post.entity.QPostSearchToken.postSearchToken;
 
 public final class PostPredicates {
 
     private PostPredicates() {}
 
-    public static BooleanExpression nicknameEq(String nickname) {
-        return user.nickname.eq(nickname);
-    }
-
     public static BooleanExpression isPublicOnly() {
         return post.isPublic.isTrue();
     }
 
-    public static BooleanExpression categoryIdEq(Long categoryId) {
-        return category.id.eq(categoryId);
-    }
-
-    public static BooleanExpression categoryBlogEqPostBlog() {
-        return category.blog.eq(post.blog);
-    }
-
     public static BooleanExpression blogEqBlogId(Long blogId) {
         return post.blog.id.eq(blogId);
     }
@@ -34,12 +22,16 @@ public final class PostPredicates {
         return post.id.eq(postId);
     }
 
-    public static BooleanExpression keywordInTitleOrContent(String keyword) {
-        return post.title.contains(keyword)
-                .or(post.content.isNotNull().and(post.content.contains(keyword)));
+    public static BooleanExpression tokenBlogEqBlogId(Long blogId) {
+        return postSearchToken.blogId.eq(blogId);
+    }
+
+    public static BooleanExpression tokenMatches(QueryTokens tokens) {
+        return postSearchToken.token.in(tokens.tokens());
     }
 
-    public static BooleanExpression isPublicEq(Boolean isPublic) {
-        return isPublic == null ? null : post.isPublic.eq(isPublic);
+    // 검색어의 모든 토큰을 포함한 게시글만 일치
+    public static BooleanExpression allTokensMatched(QueryTokens tokens) {
+        return postSearchToken.token.countDistinct().eq((long) tokens.tokens().size());
     }
 }
@@ -0,0 +1,60 @@
+package com.shcho.myBlog.post.repository.predicate;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.shcho.myBlog.post.dto.PostCursor;
+import com.shcho.myBlog.post.util.NgramTokenizer.QueryTokens;
+
+import static com.shcho.myBlog.post.entity.QPostReadModel.postReadModel;
+import static com.shcho.myBlog.post.entity.QPostSearchToken.postSearchToken;
+import static com.shcho.myBlog.post.repository.predicate.PostPredicates.allTokensMatched;
+import static com.shcho.myBlog.post.repository.predicate.PostPredicates.tokenBlogEqBlogId;
+import static com.shcho.myBlog.post.repository.predicate.PostPredicates.tokenMatches;
+
+// post_read_model 기준 목록 조회 조건
+public final class PostReadModelPredicates {
+
+    private PostReadModelPredicates() {}
+
+    public static BooleanExpression blogIdEq(Long blogId) {
+        return postReadModel.blogId.eq(blogId);
+    }
+
+    public static BooleanExpression categoryIdEq(Long categoryId) {
+        return postReadModel.categoryId.eq(categoryId);
+    }
+
+    public static BooleanExpression publicOnly() {
+        return postReadModel.isPublic.isTrue();
+    }
+
+    public static BooleanExpression publicEq(Boolean isPublic) {
+        return isPublic == null ? null : postReadModel.isPublic.eq(isPublic);
+    }
+
+    public static BooleanExpression keywordMatches(Long blogId, QueryTokens tokens) {
+        return postReadModel.postId.in(
+                JPAExpressions.select(postSearchToken.postId)
+                        .from(postSearchToken)
+                        .where(tokenBlogEqBlogId(blogId), tokenMatches(tokens))
+                        .groupBy(postSearchToken.postId)
+                        .having(allTokensMatched(tokens))
+        );
+    }
+
+    // (createdAt, postId) 내림차순 기준으로 cursor 이후의 게시글
+    public static BooleanExpression afterCursor(PostCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return postReadModel.createdAt.lt(cursor.createdAt())
+                .or(postReadModel.createdAt.eq(cursor.createdAt()).and(postReadModel.postId.lt(cursor.postId())));
+    }
+
+    // (createdAt, postId) 기준으로 cursor보다 최근 게시글
+    public static BooleanExpression beforeCursor(PostCursor cursor) {
+        return postReadModel.createdAt.gt(cursor.createdAt())
+                .or(postReadModel.createdAt.eq(cursor.createdAt()).and(postReadModel.postId.gt(cursor.postId())));
+    }
+}
@@ -0,0 +1,55 @@
+package com.shcho.myBlog.post.service;
+
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 게시글 쓰기와 같은 트랜잭션에서 post_counter를 증감
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private final PostCounterRepository postCounterRepository;
+
+    @Transactional
+    public void increase(Post post) {
+        postCounterRepository.addCounts(
+                post.getBlog().getId(), post.getCategory().getId(), 1, publicDelta(post.isPublic()));
+    }
+
+    @Transactional
+    public void decrease(Post post) {
+        postCounterRepository.addCounts(
+                post.getBlog().getId(), post.getCategory().getId(), -1, -publicDelta(post.isPublic()));
+    }
+
+    @Transactional
+    public void changePublic(Post post, boolean wasPublic) {
+        if (post.isPublic() == wasPublic) {
+            return;
+        }
+
+        postCounterRepository.addCounts(
+                post.getBlog().getId(), post.getCategory().getId(), 0, post.isPublic() ? 1 : -1);
+    }
+
+    @Transactional
+    public void changeCategory(Post post, Long previousCategoryId) {
+        Long categoryId = post.getCategory().getId();
+        if (categoryId.equals(previousCategoryId)) {
+            return;
+        }
+
+        Long blogId = post.getBlog().getId();
+        long publicDelta = publicDelta(post.isPublic());
+
+        postCounterRepository.addCounts(blogId, previousCategoryId, -1, -publicDelta);
+        postCounterRepository.addCounts(blogId, categoryId, 1, publicDelta);
+    }
+
+    private long publicDelta(boolean isPublic) {
+        return isPublic ? 1 : 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.shcho.myBlog.post.service;
+
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostReadModelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 게시글/카테고리/닉네임 쓰기와 같은 트랜잭션에서 post_read_model을 갱신
+@Service
+@RequiredArgsConstructor
+public class PostReadModelService {
+
+    private final PostReadModelRepository postReadModelRepository;
+
+    // 게시글의 blog, category는 호출 시점에 이미 로딩되어 있어야 함 (작성자 닉네임 포함)
+    @Transactional
+    public void save(Post post) {
+        postReadModelRepository.upsert(
+                post.getId(),
+                post.getBlog().getId(),
+                post.getCategory().getId(),
+                post.getBlog().getUser().getNickname(),
+                post.getCategory().getName(),
+                post.getTitle(),
+                post.getSummary(),
+                post.getThumbnailUrl(),
+                post.getReadingMinutes(),
+                post.isPublic(),
+                post.getCreatedAt()
+        );
+    }
+
+    @Transactional
+    public void remove(Long postId) {
+        postReadModelRepository.deleteByPostId(postId);
+    }
+
+    @Transactional
+    public void renameCategory(Long blogId, Long categoryId, String categoryName) {
+        postReadModelRepository.updateCategoryName(blogId, categoryId, categoryName);
+    }
+
+    @Transactional
+    public void renameNickname(Long userId, String nickname) {
+        postReadModelRepository.updateNicknameByUserId(userId, nickname);
+    }
+}
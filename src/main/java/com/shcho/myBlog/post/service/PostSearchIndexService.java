@@ -0,0 +1,109 @@
+package com.shcho.myBlog.post.service;
+
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostSearchTokenRepository;
+import com.shcho.myBlog.post.util.NgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexService {
+
+    private static final int TITLE_WEIGHT = 5;
+    private static final int CONTENT_FREQUENCY_LIMIT = 10;
+    private static final String INSERT_TOKEN_SQL =
+            "insert into post_search_token (post_id, blog_id, token, weight) values (?, ?, ?, ?)";
+    private static final String ADD_WEIGHT_SQL =
+            "update post_search_token set weight = weight + ? where post_id = ? and token = ?";
+    private static final String DELETE_EMPTY_TOKEN_SQL =
+            "delete from post_search_token where post_id = ? and weight <= 0";
+
+    private final PostSearchTokenRepository postSearchTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 단위로 기존 색인을 지우고 다시 생성
+    @Transactional
+    public void index(Post post) {
+        postSearchTokenRepository.deleteAllByPostId(post.getId());
+
+        Map<String, Integer> weights = weigh(post.getTitle(), post.getContent());
+        if (weights.isEmpty()) {
+            return;
+        }
+
+        Long postId = post.getId();
+        Long blogId = post.getBlog().getId();
+
+        List<Object[]> rows = weights.entrySet().stream()
+                .map(e -> new Object[]{postId, blogId, e.getKey(), e.getValue()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+    }
+
+    // 제목만 바뀐 경우 본문을 읽지 않고 이전 제목 몫의 가중치를 빼고 새 제목 몫을 더함
+    @Transactional
+    public void reindexTitle(Post post, String previousTitle) {
+        Map<String, Integer> delta = new HashMap<>();
+        NgramTokenizer.termFrequencies(post.getTitle())
+                .forEach((token, count) -> delta.merge(token, count * TITLE_WEIGHT, Integer::sum));
+        NgramTokenizer.termFrequencies(previousTitle)
+                .forEach((token, count) -> delta.merge(token, -count * TITLE_WEIGHT, Integer::sum));
+        delta.values().removeIf(weight -> weight == 0);
+
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        Long postId = post.getId();
+        Long blogId = post.getBlog().getId();
+        Set<String> indexed = new HashSet<>(postSearchTokenRepository.findTokensByPostId(postId, delta.keySet()));
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        delta.forEach((token, weight) -> {
+            if (indexed.contains(token)) {
+                updates.add(new Object[]{weight, postId, token});
+            } else if (weight > 0) {
+                inserts.add(new Object[]{postId, blogId, token, weight});
+            }
+        });
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_WEIGHT_SQL, updates);
+            jdbcTemplate.update(DELETE_EMPTY_TOKEN_SQL, postId);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, inserts);
+        }
+    }
+
+    @Transactional
+    public void remove(Long postId) {
+        postSearchTokenRepository.deleteAllByPostId(postId);
+    }
+
+    private Map<String, Integer> weigh(String title, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+
+        NgramTokenizer.termFrequencies(title)
+                .forEach((token, count) -> weights.merge(token, count * TITLE_WEIGHT, Integer::sum));
+
+        // 같은 단어 반복으로 순위가 과하게 올라가지 않도록 본문 빈도에 상한 적용
+        NgramTokenizer.termFrequencies(content)
+                .forEach((token, count) ->
+                        weights.merge(token, Math.min(count, CONTENT_FREQUENCY_LIMIT), Integer::sum));
+
+        return weights;
+    }
+}
@@ -2,23 +2,42 @@ package com.shcho.myBlog.post.service;
 
 import com.shcho.myBlog.blog.entity.Blog;
 import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.blog.service.BlogIdResolver;
+import com.shcho.myBlog.category.cache.CategoryTreeCache;
 import com.shcho.myBlog.category.entity.Category;
 import com.shcho.myBlog.category.repository.CategoryRepository;
+import com.shcho.myBlog.common.dto.CursorResponseDto;
 import com.shcho.myBlog.common.entity.UploadFile;
-import com.shcho.myBlog.common.service.MinioService;
 import com.shcho.myBlog.common.service.UploadFileService;
+import com.shcho.myBlog.common.util.SingleFlight;
 import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.cache.MissingPostCache;
+import com.shcho.myBlog.post.cache.PostQueryCache;
 import com.shcho.myBlog.post.dto.*;
 import com.shcho.myBlog.post.entity.Post;
 import com.shcho.myBlog.post.repository.PostQueryRepository;
 import com.shcho.myBlog.post.repository.PostRepository;
+import com.shcho.myBlog.post.util.PostContentRenderer;
+import com.shcho.myBlog.post.util.PostContentScanner;
+import com.shcho.myBlog.post.util.NgramTokenizer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static com.shcho.myBlog.libs.exception.ErrorCode.*;
 
@@ -27,12 +46,25 @@ import static com.shcho.myBlog.libs.exception.ErrorCode.*;
 public class PostService {
 
     private static final String DEFAULT_CATEGORY_NAME = "미분류";
+    private static final int MAX_CURSOR_SIZE = 50;
+    private static final int MAX_BATCH_SIZE = 50;
     private final PostRepository postRepository;
     private final BlogRepository blogRepository;
     private final CategoryRepository categoryRepository;
     private final PostQueryRepository postQueryRepository;
     private final UploadFileService uploadFileService;
-    private final MinioService minioService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostCounterService postCounterService;
+    private final PostReadModelService postReadModelService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final BlogContentVersionService blogContentVersionService;
+    private final PostQueryCache postQueryCache;
+    private final SingleFlight singleFlight;
+    private final BlogIdResolver blogIdResolver;
+    private final MissingPostCache missingPostCache;
+
+    @Value("${post.content.compression.enabled:false}")
+    private boolean contentCompressionEnabled;
 
 
     @Transactional
@@ -45,39 +77,196 @@ public class PostService {
         String title = validateTitle(requestDto.title());
         String content = requestDto.content();
 
-        Post newPost = Post.of(myBlog, category, title, content, requestDto.isPublic());
+        PostContentScan scan = PostContentScanner.scan(content);
+
+        Post newPost = Post.of(myBlog, category, title, content, requestDto.isPublic(), contentCompressionEnabled);
+        newPost.setContentSummary(scan.contentSummary());
+        newPost.setRenderedHtml(PostContentRenderer.render(content), PostContentRenderer.VERSION);
 
         Post saved = postRepository.save(newPost);
 
-        uploadFileService.attachFilesToPost(userId, saved.getId(), saved.getContent());
+        uploadFileService.attachFilesToPost(userId, saved.getId(), scan.fids());
+        postSearchIndexService.index(saved);
+        postCounterService.increase(saved);
+        postReadModelService.save(saved);
+        categoryTreeCache.evict(myBlog.getId());
+        blogContentVersionService.bump(myBlog.getId());
 
         return saved;
     }
 
     public Page<PostThumbnailResponseDto> getPostsByUserNickname(String nickname, Pageable pageable) {
-        return postQueryRepository.findPostThumbnailsByNickname(nickname, pageable);
+        return cached(nickname, "findPostThumbnailsByBlogId",
+                blogId -> postQueryRepository.findPostThumbnailsByBlogId(blogId, pageable),
+                () -> Page.empty(pageable),
+                pageable);
+    }
+
+    public Slice<PostThumbnailResponseDto> getPostsByUserNicknameSlice(String nickname, Pageable pageable) {
+        return cached(nickname, "findPostThumbnailsByBlogIdSlice",
+                blogId -> postQueryRepository.findPostThumbnailsByBlogIdSlice(blogId, pageable),
+                () -> emptySlice(pageable),
+                pageable);
+    }
+
+    public CursorResponseDto<PostThumbnailResponseDto> getPostsByUserNicknameWithCursor(
+            String nickname, String cursor, int size
+    ) {
+        int limit = validateCursorSize(size);
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        return cached(nickname, "findPostThumbnailsByBlogIdWithCursor",
+                blogId -> toCursorResponse(postQueryRepository
+                        .findPostThumbnailsByBlogIdWithCursor(blogId, postCursor, limit), limit),
+                () -> toCursorResponse(List.of(), limit),
+                cursor, limit);
     }
 
     public Page<PostThumbnailResponseDto> getPostsByUserNicknameAndKeyword(
             String nickname, String keyword, Pageable pageable
     ) {
-        if (keyword == null || keyword.trim().isBlank()) {
-            throw new CustomException(INVALID_KEYWORD);
+        String validKeyword = validateKeyword(keyword);
+
+        return cached(nickname, "findPostThumbnailsByBlogIdAndKeyword",
+                blogId -> postQueryRepository.findPostThumbnailsByBlogIdAndKeyword(blogId, validKeyword, pageable),
+                () -> Page.empty(pageable),
+                validKeyword, pageable);
+    }
+
+    public Slice<PostThumbnailResponseDto> getPostsByUserNicknameAndKeywordSlice(
+            String nickname, String keyword, Pageable pageable
+    ) {
+        String validKeyword = validateKeyword(keyword);
+
+        return cached(nickname, "findPostThumbnailsByBlogIdAndKeywordSlice",
+                blogId -> postQueryRepository.findPostThumbnailsByBlogIdAndKeywordSlice(blogId, validKeyword, pageable),
+                () -> emptySlice(pageable),
+                validKeyword, pageable);
+    }
+
+    public CursorResponseDto<PostThumbnailResponseDto> getPostsByUserNicknameAndKeywordWithCursor(
+            String nickname, String keyword, String cursor, int size
+    ) {
+        String validKeyword = validateKeyword(keyword);
+        int limit = validateCursorSize(size);
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        return cached(nickname, "findPostThumbnailsByBlogIdAndKeywordWithCursor",
+                blogId -> toCursorResponse(postQueryRepository
+                        .findPostThumbnailsByBlogIdAndKeywordWithCursor(
+                                blogId, validKeyword, postCursor, limit), limit),
+                () -> toCursorResponse(List.of(), limit),
+                validKeyword, cursor, limit);
+    }
+
+    public PostDetailResponseDto getPostByNicknameAndPostId(String nickname, Long postId) {
+        return cached(nickname, "findPostByBlogIdAndPostId",
+                blogId -> findPublicPost(blogId, postId),
+                () -> {
+                    throw new CustomException(POST_NOT_FOUND);
+                },
+                postId);
+    }
+
+    // 없거나 비공개인 게시글 id는 negative 캐시에 기록해서 반복 요청 시 DB를 조회하지 않음
+    // 이전/다음 게시글은 같은 카테고리 기준으로 함께 조회해서 상세 응답과 같은 캐시 항목에 담음
+    private PostDetailResponseDto findPublicPost(Long blogId, Long postId) {
+        long generation = postQueryCache.generation(blogId);
+        if (missingPostCache.isMissing(blogId, generation, postId)) {
+            throw new CustomException(POST_NOT_FOUND);
         }
 
-        return postQueryRepository
-                .findPostThumbnailsByNicknameAndKeyword(nickname, keyword.trim(), pageable);
+        Post post = postQueryRepository.findPostByBlogIdAndPostId(blogId, postId)
+                .orElseThrow(() -> {
+                    missingPostCache.markMissing(blogId, generation, postId);
+                    return new CustomException(POST_NOT_FOUND);
+                });
+
+        PostNavigationDto navigation = postQueryRepository.findAdjacentPosts(
+                blogId, post.getCategory().getId(), new PostCursor(post.getCreatedAt(), post.getId()));
+
+        return PostDetailResponseDto.of(post, renderedHtmlOf(post), navigation);
     }
 
-    public Post getPostByNicknameAndPostId(String nickname, Long postId) {
-        return postQueryRepository.findPostByNicknameAndPostId(nickname, postId)
-                .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+    // 렌더러 버전이 바뀐 뒤 재렌더링 배치가 아직 처리하지 않은 본문은 조회 시점에 렌더링 (결과는 상세 캐시에 담김)
+    private String renderedHtmlOf(Post post) {
+        if (post.isRenderedWith(PostContentRenderer.VERSION)) {
+            return post.getRenderedHtml();
+        }
+
+        return PostContentRenderer.render(post.getContent());
+    }
+
+    public PostBatchResponseDto getPostsByNicknameAndPostIds(String nickname, List<Long> postIds) {
+        List<Long> ids = validatePostIds(postIds);
+
+        return cached(nickname, "findPostsByBlogIdAndPostIds",
+                blogId -> findPublicPosts(blogId, ids),
+                () -> PostBatchResponseDto.of(List.of(), ids),
+                ids);
+    }
+
+    // negative 캐시에 있는 id는 제외하고 나머지를 한 번에 조회, 결과는 요청 순서대로 정렬
+    private PostBatchResponseDto findPublicPosts(Long blogId, List<Long> postIds) {
+        long generation = postQueryCache.generation(blogId);
+        List<Long> candidates = postIds.stream()
+                .filter(postId -> !missingPostCache.isMissing(blogId, generation, postId))
+                .toList();
+
+        Map<Long, PostResponseDto> found = candidates.isEmpty()
+                ? Map.of()
+                : postQueryRepository.findPostsByBlogIdAndPostIds(blogId, candidates).stream()
+                        .collect(Collectors.toMap(Post::getId, PostResponseDto::from));
+
+        List<PostResponseDto> posts = new ArrayList<>();
+        List<Long> missingPostIds = new ArrayList<>();
+
+        for (Long postId : postIds) {
+            PostResponseDto post = found.get(postId);
+            if (post != null) {
+                posts.add(post);
+                continue;
+            }
+
+            if (candidates.contains(postId)) {
+                missingPostCache.markMissing(blogId, generation, postId);
+            }
+            missingPostIds.add(postId);
+        }
+
+        return PostBatchResponseDto.of(posts, missingPostIds);
     }
 
     public Page<PostThumbnailResponseDto> getPostsByUserNicknameAndCategoryId(
             String nickname, Long categoryId, Pageable pageable
     ) {
-        return postQueryRepository.findPostThumbnailsByNicknameAndCategoryId(nickname, categoryId, pageable);
+        return cached(nickname, "findPostThumbnailsByBlogIdAndCategoryId",
+                blogId -> postQueryRepository.findPostThumbnailsByBlogIdAndCategoryId(blogId, categoryId, pageable),
+                () -> Page.empty(pageable),
+                categoryId, pageable);
+    }
+
+    public Slice<PostThumbnailResponseDto> getPostsByUserNicknameAndCategoryIdSlice(
+            String nickname, Long categoryId, Pageable pageable
+    ) {
+        return cached(nickname, "findPostThumbnailsByBlogIdAndCategoryIdSlice",
+                blogId -> postQueryRepository.findPostThumbnailsByBlogIdAndCategoryIdSlice(blogId, categoryId, pageable),
+                () -> emptySlice(pageable),
+                categoryId, pageable);
+    }
+
+    public CursorResponseDto<PostThumbnailResponseDto> getPostsByUserNicknameAndCategoryIdWithCursor(
+            String nickname, Long categoryId, String cursor, int size
+    ) {
+        int limit = validateCursorSize(size);
+        PostCursor postCursor = PostCursor.decode(cursor);
+
+        return cached(nickname, "findPostThumbnailsByBlogIdAndCategoryIdWithCursor",
+                blogId -> toCursorResponse(postQueryRepository
+                        .findPostThumbnailsByBlogIdAndCategoryIdWithCursor(
+                                blogId, categoryId, postCursor, limit), limit),
+                () -> toCursorResponse(List.of(), limit),
+                categoryId, cursor, limit);
     }
 
     public Page<PostThumbnailResponseDto> getMyAllPosts(
@@ -89,20 +278,56 @@ public class PostService {
         return postQueryRepository.getMyAllPosts(myBlog.getId(), publicPost, pageable);
     }
 
+    public Slice<PostThumbnailResponseDto> getMyAllPostsSlice(
+            Long userId, Boolean publicPost, Pageable pageable
+    ) {
+        Blog myBlog = blogRepository.findBlogByUserIdFetchUser(userId)
+                .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
+
+        return postQueryRepository.getMyAllPostsSlice(myBlog.getId(), publicPost, pageable);
+    }
+
+    public CursorResponseDto<PostThumbnailResponseDto> getMyAllPostsWithCursor(
+            Long userId, Boolean publicPost, String cursor, int size
+    ) {
+        Blog myBlog = blogRepository.findBlogByUserIdFetchUser(userId)
+                .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
+
+        int limit = validateCursorSize(size);
+
+        List<PostThumbnailResponseDto> rows = postQueryRepository
+                .getMyAllPostsWithCursor(myBlog.getId(), publicPost, PostCursor.decode(cursor), limit);
+
+        return toCursorResponse(rows, limit);
+    }
+
     public Post getMyPostByPostId(Long userId, Long postId) {
         Blog myBlog = blogRepository.findBlogByUserIdFetchUser(userId)
                 .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
 
+        return postQueryRepository.getMyPostWithContentByBlog(myBlog.getId(), postId)
+                .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+    }
+
+    // 본문이 필요 없는 수정/삭제는 post 행만 조회
+    private Post getMyPostMetadata(Long userId, Long postId) {
+        Blog myBlog = blogRepository.findBlogByUserIdFetchUser(userId)
+                .orElseThrow(() -> new CustomException(BLOG_NOT_FOUND));
+
         return postQueryRepository.getMyPostByBlog(myBlog.getId(), postId)
                 .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
     }
 
     @Transactional
     public Post updateTitle(Long userId, Long postId, UpdatePostTitleRequestDto requestDto) {
-        Post post = getMyPostByPostId(userId, postId);
+        Post post = getMyPostMetadata(userId, postId);
         String title = validateTitle(requestDto.title());
+        String previousTitle = post.getTitle();
 
         post.setTitle(title);
+        postSearchIndexService.reindexTitle(post, previousTitle);
+        postReadModelService.save(post);
+        blogContentVersionService.bump(post.getBlog().getId());
 
         return post;
     }
@@ -111,54 +336,77 @@ public class PostService {
     public Post updateContent(Long userId, Long postId, UpdatePostContentRequestDto requestDto) {
         Post post = getMyPostByPostId(userId, postId);
         String content = requestDto.content();
+        PostContentScan scan = PostContentScanner.scan(content);
 
-        var newFids = uploadFileService.extractFids(content);
+        // 이미 첨부된 파일과 비교해 본문에서 빠진 파일은 삭제, 새로 들어온 파일만 첨부
+        var newFids = scan.fids();
         var attachedFiles = uploadFileService.getAttachedFilesByPostId(post.getId());
+        var attachedFids = attachedFiles.stream()
+                .map(UploadFile::getId)
+                .collect(Collectors.toSet());
         var toDelete = attachedFiles.stream()
-                        .filter(f -> !newFids.contains(f.getId()))
-                                .toList();
+                .filter(f -> !newFids.contains(f.getId()))
+                .toList();
+        var toAttach = newFids.stream()
+                .filter(fid -> !attachedFids.contains(fid))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        for(UploadFile file : toDelete) {
-            minioService.deleteObject(file.getObjectName());
-        }
-        uploadFileService.markDeletedAndSaveAll(toDelete);
+        uploadFileService.markAllDeleted(toDelete);
 
-        post.setContent(content);
+        post.setContent(content, contentCompressionEnabled);
+        post.setContentSummary(scan.contentSummary());
+        post.setRenderedHtml(PostContentRenderer.render(content), PostContentRenderer.VERSION);
 
-        uploadFileService.attachFilesToPost(userId, post.getId(), content);
+        uploadFileService.attachFilesToPost(userId, post.getId(), toAttach);
+        postSearchIndexService.index(post);
+        postReadModelService.save(post);
+        blogContentVersionService.bump(post.getBlog().getId());
 
         return post;
     }
 
     @Transactional
     public Post updateCategory(Long userId, Long postId, UpdatePostCategoryRequestDto requestDto) {
-        Post post = getMyPostByPostId(userId, postId);
+        Post post = getMyPostMetadata(userId, postId);
         Category category = validateCategory(requestDto.categoryId(), post.getBlog().getId());
+        Long previousCategoryId = post.getCategory().getId();
 
         post.setCategory(category);
+        postCounterService.changeCategory(post, previousCategoryId);
+        postReadModelService.save(post);
+        categoryTreeCache.evict(post.getBlog().getId());
+        blogContentVersionService.bump(post.getBlog().getId());
 
         return post;
     }
 
     @Transactional
     public Post updatePublic(Long userId, Long postId, UpdatePostPublicRequestDto requestDto) {
-        Post post = getMyPostByPostId(userId, postId);
+        Post post = getMyPostMetadata(userId, postId);
+        boolean wasPublic = post.isPublic();
+
         post.setPublic(requestDto.isPublic());
+        postCounterService.changePublic(post, wasPublic);
+        postReadModelService.save(post);
+        categoryTreeCache.evict(post.getBlog().getId());
+        blogContentVersionService.bump(post.getBlog().getId());
         return post;
     }
 
     @Transactional
     public Long deletePost(Long userId, Long postId) {
-        Post post = getMyPostByPostId(userId, postId);
+        Post post = getMyPostMetadata(userId, postId);
         Long id = post.getId();
 
         var attachedFiles = uploadFileService.getAttachedFilesByPostId(id);
 
-        for(UploadFile attachedFile : attachedFiles) {
-            minioService.deleteObject(attachedFile.getObjectName());
-        }
-        uploadFileService.markDeletedAndSaveAll(attachedFiles);
+        uploadFileService.markAllDeleted(attachedFiles);
 
+        postSearchIndexService.remove(id);
+        postCounterService.decrease(post);
+        postReadModelService.remove(id);
+        categoryTreeCache.evict(post.getBlog().getId());
+        blogContentVersionService.bump(post.getBlog().getId());
         postRepository.delete(post);
         return id;
     }
@@ -173,6 +421,43 @@ public class PostService {
         return title;
     }
 
+    private String validateKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isBlank()) {
+            throw new CustomException(INVALID_KEYWORD);
+        }
+
+        // 특수문자로만 이루어진 검색어는 색인 토큰이 없으므로 검색 불가
+        if (NgramTokenizer.queryTokens(keyword).isEmpty()) {
+            throw new CustomException(INVALID_KEYWORD);
+        }
+
+        return keyword.trim();
+    }
+
+    // 중복 id는 처음 위치만 남김
+    private List<Long> validatePostIds(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty() || postIds.contains(null)) {
+            throw new CustomException(INVALID_POST_IDS);
+        }
+
+        List<Long> ids = postIds.stream().distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(INVALID_POST_IDS);
+        }
+
+        return ids;
+    }
+
+    private int validateCursorSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+    }
+
+    private CursorResponseDto<PostThumbnailResponseDto> toCursorResponse(
+            List<PostThumbnailResponseDto> rows, int size
+    ) {
+        return CursorResponseDto.of(rows, size, dto -> PostCursor.from(dto).encode());
+    }
+
     private Category validateCategory(Long categoryId, Long blogId) {
         Category category;
 
@@ -199,42 +484,45 @@ public class PostService {
         // limit은 6으로 고정, 추후 limit 수 직접 받는 확장 경우의 수를 대비해서 파라미터로 받음
         limit = 6;
 
-        List<PostRecentThumbnailQueryDto> posts =
-                postQueryRepository.findRecentPostsByNickname(nickname, limit);
-
-        return posts.stream()
-                .map(p -> new PostRecentThumbnailResponseDto(
-                        p.postId(),
-                        p.title(),
-                        toSummary(p.content(), 140),
-                        p.categoryName(),
-                        p.createdAt()
-                ))
-                .toList();
-    }
+        int recentLimit = limit;
 
-    private String toSummary(String content, int length) {
-        if(content == null || content.isBlank()) {
-            return "";
-        }
-
-        String noHtml = content.replaceAll("<[^>]*>", " "); // HTML
+        // 블로그 홈 집계와 같은 캐시 키를 사용
+        return cached(nickname, "findRecentPostsByBlogId",
+                blogId -> findRecentPosts(blogId, recentLimit),
+                List::of,
+                recentLimit);
+    }
 
-        String noMarkdown = noHtml
-                .replaceAll("(?s)```.*?```", " ") // code block
-                .replaceAll("`[^`]*`", " ")       // inline code
-                .replaceAll("[#>*_\\-]", " ")    // tokens
-                .replaceAll("!\\[[^\\]]*\\]\\([^\\)]*\\)", " ") // image
-                .replaceAll("\\[[^\\]]*\\]\\([^\\)]*\\)", " "); // link
+    // 닉네임 조회가 끝난 호출자(블로그 홈 집계)용
+    public List<PostRecentThumbnailResponseDto> getRecentPostThumbnailsByBlogId(Long blogId, int limit) {
+        return postQueryCache.get(blogId, "findRecentPostsByBlogId",
+                () -> findRecentPosts(blogId, limit),
+                limit);
+    }
 
-        String normalized = noMarkdown
-                .replaceAll("\\s+", " ")
-                .trim();
+    // 요약은 본문 저장 시점에 계산되어 있으므로 본문(content)은 조회하지 않음
+    private List<PostRecentThumbnailResponseDto> findRecentPosts(Long blogId, int limit) {
+        return postQueryRepository.findRecentPostsByBlogId(blogId, limit)
+                .stream()
+                .map(PostRecentThumbnailResponseDto::from)
+                .toList();
+    }
 
-        if (normalized.length() <= length) {
-            return normalized;
-        }
+    // 공개 조회는 닉네임을 blogId로 바꾼 뒤 blogId 기준으로 조회하고, 결과는 블로그 단위로 캐시
+    // (무효화는 콘텐츠 버전 증가 이벤트로 처리)
+    // 블로그가 없는 닉네임은 DB 조회 없이 blogNotFound 결과로 응답
+    // 동시에 들어온 같은 조회는 한 번만 실행
+    private <T> T cached(
+            String nickname, String method, Function<Long, T> loader, Supplier<T> blogNotFound, Object... args
+    ) {
+        return singleFlight.execute("post." + method,
+                () -> blogIdResolver.findBlogId(nickname)
+                        .map(blogId -> postQueryCache.get(blogId, method, () -> loader.apply(blogId), args))
+                        .orElseGet(blogNotFound),
+                nickname, Arrays.asList(args));
+    }
 
-        return normalized.substring(0, length) + "...";
+    private static Slice<PostThumbnailResponseDto> emptySlice(Pageable pageable) {
+        return new SliceImpl<>(List.of(), pageable, false);
     }
 }
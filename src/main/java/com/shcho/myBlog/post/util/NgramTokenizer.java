@@ -0,0 +1,90 @@
+package com.shcho.myBlog.post.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 색인용 n-gram 토크나이저.
+ * 글자/숫자가 연속된 구간을 소문자로 바꾼 뒤 unigram과 bigram으로 분해한다.
+ * 한글은 형태소 분석 없이도 부분 문자열 검색이 가능하도록 모든 문자에 동일하게 적용한다.
+ * 1글자 검색어는 unigram으로 찾으므로 단어 끝 글자("우리집"의 "집")도 일치한다.
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {}
+
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> result = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return result;
+        }
+
+        forEachRun(text, (lower, start, end) -> {
+            for (int j = start; j < end; j++) {
+                result.merge(lower.substring(j, j + 1), 1, Integer::sum);
+            }
+            for (int j = start; j + GRAM_SIZE <= end; j++) {
+                result.merge(lower.substring(j, j + GRAM_SIZE), 1, Integer::sum);
+            }
+        });
+        return result;
+    }
+
+    // bigram이 하나라도 있으면 bigram 전부, 1글자 검색어만 있으면 해당 unigram 전부가 일치 조건
+    public static QueryTokens queryTokens(String keyword) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        Set<String> unigrams = new LinkedHashSet<>();
+
+        if (keyword != null) {
+            forEachRun(keyword, (lower, start, end) -> {
+                if (end - start < GRAM_SIZE) {
+                    unigrams.add(lower.substring(start, end));
+                }
+                for (int j = start; j + GRAM_SIZE <= end; j++) {
+                    bigrams.add(lower.substring(j, j + GRAM_SIZE));
+                }
+            });
+        }
+
+        return new QueryTokens(bigrams.isEmpty() ? unigrams : bigrams);
+    }
+
+    // 글자/숫자가 연속된 구간 [start, end) 마다 호출
+    private static void forEachRun(String text, RunConsumer consumer) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+
+        while (i < length) {
+            if (!Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+            }
+
+            consumer.accept(lower, start, i);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(String lower, int start, int end);
+    }
+
+    public record QueryTokens(
+            Set<String> tokens
+    ) {
+        public boolean isEmpty() {
+            return tokens.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.shcho.myBlog.post.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 압축 포맷.
+ * 첫 바이트는 포맷 헤더이고, 나머지는 헤더가 가리키는 방식으로 인코딩된 UTF-8 본문이다.
+ */
+public final class PostContentCodec {
+
+    public static final byte FORMAT_RAW = 0;
+    public static final byte FORMAT_DEFLATE = 1;
+
+    // 이보다 짧은 본문은 압축 이득보다 헤더/CPU 비용이 커서 원문 그대로 둔다
+    public static final int MIN_COMPRESS_LENGTH = 512;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private PostContentCodec() {}
+
+    public static boolean shouldCompress(String content) {
+        return content != null && content.length() >= MIN_COMPRESS_LENGTH;
+    }
+
+    public static byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 1);
+            out.write(FORMAT_DEFLATE);
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return null;
+        }
+
+        return switch (encoded[0]) {
+            case FORMAT_RAW -> new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+            case FORMAT_DEFLATE -> inflate(encoded);
+            default -> throw new IllegalStateException("Unknown post content format: " + encoded[0]);
+        };
+    }
+
+    private static String inflate(byte[] encoded) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated post content");
+                }
+                out.write(buffer, 0, length);
+            }
+
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted post content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
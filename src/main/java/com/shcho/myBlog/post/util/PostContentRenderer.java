@@ -0,0 +1,55 @@
+package com.shcho.myBlog.post.util;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+
+import java.util.List;
+
+/**
+ * 게시글 본문(markdown, HTML 혼용)을 sanitize 된 HTML로 변환한다.
+ * 본문 저장 시점에 한 번 렌더링하고, 결과는 렌더러 버전과 함께 post_content에 저장된다.
+ * 렌더링 결과가 달라지는 변경(확장, 허용 태그 등)을 하면 VERSION을 올리고 postContentRenderJob을 실행한다.
+ */
+public final class PostContentRenderer {
+
+    // 2: 상대 경로/목차(#) 링크 유지
+    public static final int VERSION = 2;
+
+    private static final List<Extension> EXTENSIONS =
+            List.of(TablesExtension.create(), StrikethroughExtension.create());
+
+    // Parser, HtmlRenderer, Safelist는 생성 후 상태가 바뀌지 않아 스레드 간 공유 가능
+    private static final Parser PARSER = Parser.builder().extensions(EXTENSIONS).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("hr", "del", "s")
+            .addAttributes("code", "class")
+            .addAttributes("th", "align")
+            .addAttributes("td", "align")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener noreferrer")
+            .preserveRelativeLinks(true);
+
+    // 상대 경로를 프로토콜 검사에 통과시키기 위한 임시 기준 주소, 출력에는 원래 값이 남음
+    private static final String BASE_URI = "https://localhost/";
+
+    // <pre> 안의 줄바꿈/들여쓰기를 그대로 유지
+    private static final Document.OutputSettings OUTPUT_SETTINGS = new Document.OutputSettings().prettyPrint(false);
+
+    private PostContentRenderer() {}
+
+    public static String render(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+
+        String html = RENDERER.render(PARSER.parse(content));
+        return Jsoup.clean(html, BASE_URI, SAFELIST, OUTPUT_SETTINGS);
+    }
+}
@@ -0,0 +1,395 @@
+package com.shcho.myBlog.post.util;
+
+import com.shcho.myBlog.post.dto.PostContentScan;
+import com.shcho.myBlog.post.dto.PostHeading;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 본문(마크다운, HTML 혼합)을 앞에서부터 한 번만 읽어 저장 시점에 필요한 파생 값을 모두 계산한다.
+ * 요약, 단어 수, 첨부 파일 fid, 이미지 URL, 제목 목차를 한 번에 만들고 본문 크기만큼의 중간 문자열은 만들지 않는다.
+ * <p>
+ * 평문 규칙: HTML 태그, 코드 블록, 인라인 코드, 이미지, 링크는 통째로 빼고 # > * _ - 는 공백으로 본다.
+ * fid는 태그, 코드, 링크 안을 포함해 본문 어디에 있든 ?fid= / &fid= 형태면 모두 찾는다.
+ */
+public final class PostContentScanner {
+
+    public static final int SUMMARY_LENGTH = 140;
+
+    private static final PostContentScan EMPTY = new PostContentScan("", 0, Set.of(), List.of(), List.of());
+
+    private PostContentScanner() {}
+
+    public static PostContentScan scan(String content) {
+        if (content == null || content.isBlank()) {
+            return EMPTY;
+        }
+
+        return new Scan(content).run();
+    }
+
+    private static final class Scan {
+
+        // 닫는 문자 위치 캐시 슬롯
+        private static final int TAG_CLOSE = 0;
+        private static final int BRACKET_CLOSE = 1;
+        private static final int PAREN_CLOSE = 2;
+        private static final int BACKTICK = 3;
+
+        private final String content;
+        private final int length;
+
+        private final StringBuilder summary = new StringBuilder(SUMMARY_LENGTH + 1);
+        private final Set<Long> fids = new LinkedHashSet<>();
+        private final List<String> imageUrls = new ArrayList<>();
+        private final List<PostHeading> headings = new ArrayList<>();
+
+        private int wordCount;
+        private boolean spacePending = true;
+        private boolean lineStart = true;
+
+        // 작성 중인 제목 (마크다운 제목은 줄 끝, HTML 제목은 닫는 태그에서 끝남)
+        private StringBuilder headingText;
+        private int headingLevel;
+        private boolean htmlHeading;
+
+        // 닫히지 않은 괄호가 많아도 같은 구간을 다시 찾지 않도록 다음 위치를 기억 (없으면 length)
+        private final int[] nextIndex = {-1, -1, -1, -1};
+
+        private Scan(String content) {
+            this.content = content;
+            this.length = content.length();
+        }
+
+        private PostContentScan run() {
+            int i = 0;
+            while (i < length) {
+                i = step(i);
+            }
+            endHeading();
+
+            return new PostContentScan(summary(), wordCount, fids, imageUrls, headings);
+        }
+
+        private int step(int i) {
+            char c = content.charAt(i);
+            boolean atLineStart = lineStart;
+            lineStart = c == '\n' || (lineStart && isWhitespace(c));
+
+            if (c == '\n') {
+                if (headingText != null && !htmlHeading) {
+                    endHeading();
+                }
+                space();
+                return i + 1;
+            }
+            if (c == '<') {
+                return tag(i);
+            }
+            if (c == '`') {
+                return content.startsWith("```", i) ? codeBlock(i) : inlineCode(i);
+            }
+            if (c == '!' && i + 1 < length && content.charAt(i + 1) == '[') {
+                return image(i);
+            }
+            if (c == '[') {
+                return link(i);
+            }
+            if (c == '#' && atLineStart) {
+                return atxHeading(i);
+            }
+            if (c == '#' || c == '>' || c == '*' || c == '_' || c == '-' || isWhitespace(c)) {
+                space();
+                return i + 1;
+            }
+            if (c == '?' || c == '&') {
+                readFid(i);
+            }
+
+            text(c);
+            return i + 1;
+        }
+
+        private int tag(int i) {
+            int close = isTagStart(i + 1) ? indexOf('>', i + 1, TAG_CLOSE) : -1;
+            if (close < 0) {
+                text('<');
+                return i + 1;
+            }
+            scanFids(i, close);
+
+            int start = i + 1;
+            boolean closing = start < close && content.charAt(start) == '/';
+            if (closing) {
+                start++;
+            }
+            int end = start;
+            while (end < close && isAsciiLetterOrDigit(content.charAt(end))) {
+                end++;
+            }
+
+            if (!closing && end - start == 3 && content.regionMatches(true, start, "img", 0, 3)) {
+                imageSrc(end, close);
+            } else if (end - start == 2 && Character.toLowerCase(content.charAt(start)) == 'h'
+                    && content.charAt(start + 1) >= '1' && content.charAt(start + 1) <= '6') {
+                if (!closing) {
+                    startHeading(content.charAt(start + 1) - '0', true);
+                } else if (htmlHeading) {
+                    endHeading();
+                }
+            }
+
+            space();
+            return close + 1;
+        }
+
+        // "a < b" 같은 본문의 부등호는 태그로 보지 않음
+        private boolean isTagStart(int i) {
+            if (i >= length) {
+                return false;
+            }
+            char c = content.charAt(i);
+            return c == '/' || c == '!' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        // <img ... src="..."> 의 src 값
+        private void imageSrc(int from, int close) {
+            for (int k = from; k + 3 <= close; k++) {
+                if (!content.regionMatches(true, k, "src", 0, 3) || isAsciiLetterOrDigit(content.charAt(k - 1))) {
+                    continue;
+                }
+
+                int j = skipWhitespace(k + 3, close);
+                if (j >= close || content.charAt(j) != '=') {
+                    continue;
+                }
+                j = skipWhitespace(j + 1, close);
+                if (j >= close || (content.charAt(j) != '"' && content.charAt(j) != '\'')) {
+                    continue;
+                }
+
+                int valueStart = j + 1;
+                int valueEnd = valueStart;
+                while (valueEnd < close && content.charAt(valueEnd) != '"' && content.charAt(valueEnd) != '\'') {
+                    valueEnd++;
+                }
+                if (valueEnd < close && valueEnd > valueStart) {
+                    imageUrls.add(content.substring(valueStart, valueEnd));
+                }
+                return;
+            }
+        }
+
+        // 닫는 ``` 가 없으면 본문 끝까지 코드로 본다
+        private int codeBlock(int i) {
+            int close = content.indexOf("```", i + 3);
+            int end = close < 0 ? length : close + 3;
+
+            scanFids(i, end);
+            space();
+            return end;
+        }
+
+        private int inlineCode(int i) {
+            // 짝이 맞지 않는 ` 가 뒤의 코드 블록을 열지 않도록 ``` 와는 짝짓지 않음
+            int close = indexOf('`', i + 1, BACKTICK);
+            if (close < 0 || content.startsWith("```", close)) {
+                text('`');
+                return i + 1;
+            }
+
+            scanFids(i, close + 1);
+            space();
+            return close + 1;
+        }
+
+        // ![alt](url)
+        private int image(int i) {
+            int bracketClose = linkTextEnd(i + 1);
+            int close = bracketClose < 0 ? -1 : indexOf(')', bracketClose + 2, PAREN_CLOSE);
+            if (close < 0) {
+                text('!');
+                return i + 1;
+            }
+
+            int urlStart = skipWhitespace(bracketClose + 2, close);
+            int urlEnd = urlStart;
+            while (urlEnd < close && !isWhitespace(content.charAt(urlEnd))) {
+                urlEnd++;
+            }
+            if (urlEnd > urlStart) {
+                imageUrls.add(content.substring(urlStart, urlEnd));
+            }
+
+            scanFids(i, close + 1);
+            space();
+            return close + 1;
+        }
+
+        // [text](url) 는 텍스트까지 요약에서 뺀다, 링크 텍스트 안에 이미지가 있으면 이미지를 먼저 처리
+        private int link(int i) {
+            int bracketClose = linkTextEnd(i);
+            if (bracketClose >= 0 && containsImage(i + 1, bracketClose)) {
+                bracketClose = -1;
+            }
+            int close = bracketClose < 0 ? -1 : indexOf(')', bracketClose + 2, PAREN_CLOSE);
+            if (close < 0) {
+                text('[');
+                return i + 1;
+            }
+
+            scanFids(i, close + 1);
+            space();
+            return close + 1;
+        }
+
+        // '[' 에 대응하는 ']' 위치, 바로 뒤에 '(' 가 없으면 -1
+        private int linkTextEnd(int open) {
+            int close = indexOf(']', open + 1, BRACKET_CLOSE);
+            if (close < 0 || close + 1 >= length || content.charAt(close + 1) != '(') {
+                return -1;
+            }
+            return close;
+        }
+
+        private boolean containsImage(int from, int to) {
+            for (int k = from; k + 1 < to; k++) {
+                if (content.charAt(k) == '!' && content.charAt(k + 1) == '[') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 줄 맨 앞의 # 1~6개 + 공백
+        private int atxHeading(int i) {
+            int end = i;
+            while (end < length && content.charAt(end) == '#') {
+                end++;
+            }
+
+            int level = end - i;
+            if (level <= 6 && (end == length || isWhitespace(content.charAt(end)))) {
+                startHeading(level, false);
+            }
+
+            space();
+            return end;
+        }
+
+        private void startHeading(int level, boolean html) {
+            endHeading();
+            headingText = new StringBuilder();
+            headingLevel = level;
+            htmlHeading = html;
+        }
+
+        private void endHeading() {
+            if (headingText == null) {
+                return;
+            }
+
+            String text = headingText.toString().strip();
+            if (!text.isEmpty()) {
+                headings.add(new PostHeading(headingLevel, text));
+            }
+            headingText = null;
+            htmlHeading = false;
+        }
+
+        private void text(char c) {
+            if (spacePending) {
+                wordCount++;
+                appendSummary(' ');
+                spacePending = false;
+            }
+            appendSummary(c);
+
+            if (headingText != null) {
+                headingText.append(c);
+            }
+        }
+
+        private void space() {
+            spacePending = true;
+
+            if (headingText != null && !headingText.isEmpty()
+                    && headingText.charAt(headingText.length() - 1) != ' ') {
+                headingText.append(' ');
+            }
+        }
+
+        // 141자까지만 모아 두면 잘라야 하는지 알 수 있음
+        private void appendSummary(char c) {
+            if (summary.length() > SUMMARY_LENGTH || (c == ' ' && summary.isEmpty())) {
+                return;
+            }
+            summary.append(c);
+        }
+
+        private String summary() {
+            if (summary.length() <= SUMMARY_LENGTH) {
+                return summary.toString();
+            }
+            return summary.substring(0, SUMMARY_LENGTH) + "...";
+        }
+
+        private void scanFids(int from, int to) {
+            for (int k = from; k < to; k++) {
+                char c = content.charAt(k);
+                if (c == '?' || c == '&') {
+                    readFid(k);
+                }
+            }
+        }
+
+        // ?fid=123 / &fid=123 (대소문자 무시)
+        private void readFid(int i) {
+            if (!content.regionMatches(true, i + 1, "fid=", 0, 4)) {
+                return;
+            }
+
+            int start = i + 5;
+            int end = start;
+            while (end < length && content.charAt(end) >= '0' && content.charAt(end) <= '9') {
+                end++;
+            }
+            if (end == start) {
+                return;
+            }
+
+            try {
+                fids.add(Long.parseLong(content, start, end, 10));
+            } catch (NumberFormatException ignored) {
+
+            }
+        }
+
+        private int indexOf(char c, int from, int slot) {
+            if (nextIndex[slot] < from) {
+                int found = content.indexOf(c, from);
+                nextIndex[slot] = found < 0 ? length : found;
+            }
+            return nextIndex[slot] == length ? -1 : nextIndex[slot];
+        }
+
+        private int skipWhitespace(int from, int to) {
+            while (from < to && isWhitespace(content.charAt(from))) {
+                from++;
+            }
+            return from;
+        }
+
+        // 정규식 \s 와 같은 범위
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+
+        private static boolean isAsciiLetterOrDigit(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+    }
+}
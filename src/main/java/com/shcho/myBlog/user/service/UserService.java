@@ -1,11 +1,14 @@
 package com.shcho.myBlog.user.service;
 
 import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.blog.service.BlogIdResolver;
 import com.shcho.myBlog.category.entity.Category;
 import com.shcho.myBlog.category.repository.CategoryRepository;
 import com.shcho.myBlog.common.service.MinioService;
 import com.shcho.myBlog.common.util.JwtProvider;
 import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.service.PostReadModelService;
 import com.shcho.myBlog.user.dto.*;
 import com.shcho.myBlog.user.entity.User;
 import com.shcho.myBlog.user.repository.UserRepository;
@@ -31,6 +34,9 @@ public class UserService {
     private final JwtProvider jwtProvider;
     private final CategoryRepository categoryRepository;
     private final MinioService minioService;
+    private final BlogContentVersionService blogContentVersionService;
+    private final BlogIdResolver blogIdResolver;
+    private final PostReadModelService postReadModelService;
 
     @Transactional
     public User signUp(UserSignUpRequestDto requestDto) {
@@ -69,6 +75,9 @@ public class UserService {
         Category defaultCategory = Category.of(savedBlog, null, DEFAULT_CATEGORY_NAME, "");
         categoryRepository.save(defaultCategory);
 
+        // 가입 전 조회로 남은 '없는 닉네임' 캐시 제거
+        blogIdResolver.evict(nickname);
+
         return savedUser;
     }
 
@@ -139,7 +148,13 @@ public class UserService {
             throw new CustomException(DUPLICATED_NICKNAME);
         }
 
+        String oldNickname = user.getNickname();
+
         user.updateNickname(newNickname);
+        postReadModelService.renameNickname(userId, newNickname);
+        blogIdResolver.evict(oldNickname);
+        blogIdResolver.evict(newNickname);
+        blogContentVersionService.bumpByUserId(userId);
 
         return user;
     }
@@ -174,6 +189,7 @@ public class UserService {
         String url = minioService.upload(userId, file, PROFILE_IMAGE);
 
         user.updateProfileImageUrl(url);
+        blogContentVersionService.bumpByUserId(userId);
 
         if (oldUrl != null && !oldUrl.isBlank()) {
             String oldObjectName = minioService.extractObjectNameFromUrl(oldUrl);
@@ -205,6 +221,7 @@ public class UserService {
         }
 
         user.deleteProfileImageUrl();
+        blogContentVersionService.bumpByUserId(userId);
 
         return user;
     }
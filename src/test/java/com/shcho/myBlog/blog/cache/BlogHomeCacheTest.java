@@ -0,0 +1,129 @@
+package com.shcho.myBlog.blog.cache;
+
+import com.shcho.myBlog.blog.dto.BlogHomeResponseDto;
+import com.shcho.myBlog.blog.dto.BlogResponseDto;
+import com.shcho.myBlog.blog.event.BlogContentChangedEvent;
+import com.shcho.myBlog.blog.service.BlogHomeAssembler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BlogHomeCache Unit Test")
+@ExtendWith(MockitoExtension.class)
+class BlogHomeCacheTest {
+
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofSeconds(30);
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    @Mock
+    private BlogHomeAssembler blogHomeAssembler;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private BlogHomeCache blogHomeCache;
+
+    @BeforeEach
+    void setUp() {
+        // 갱신은 호출 스레드에서 바로 실행해 결과를 결정적으로 확인
+        blogHomeCache = new BlogHomeCache(blogHomeAssembler, new SimpleMeterRegistry(),
+                REFRESH_AFTER_WRITE, EXPIRE_AFTER_WRITE, Runnable::run, nanos::get);
+    }
+
+    @Test
+    @DisplayName("신선 기간 안에서는 다시 조립하지 않는다")
+    void getReturnsCachedWithinFreshness() {
+        // given
+        BlogHomeResponseDto home = home("first");
+        when(blogHomeAssembler.assemble(1L)).thenReturn(home);
+
+        // when
+        blogHomeCache.get(1L);
+        advance(Duration.ofSeconds(10));
+        BlogHomeResponseDto result = blogHomeCache.get(1L);
+
+        // then
+        assertSame(home, result);
+        verify(blogHomeAssembler, times(1)).assemble(1L);
+    }
+
+    @Test
+    @DisplayName("신선 기간이 지나면 기존 값을 응답하고 백그라운드에서 다시 조립한다")
+    void getServesStaleWhileRevalidating() {
+        // given
+        BlogHomeResponseDto stale = home("stale");
+        BlogHomeResponseDto fresh = home("fresh");
+        when(blogHomeAssembler.assemble(1L)).thenReturn(stale, fresh);
+
+        blogHomeCache.get(1L);
+        advance(REFRESH_AFTER_WRITE.plusSeconds(1));
+
+        // when
+        BlogHomeResponseDto first = blogHomeCache.get(1L);
+        BlogHomeResponseDto second = blogHomeCache.get(1L);
+
+        // then
+        assertSame(stale, first);
+        assertSame(fresh, second);
+        verify(blogHomeAssembler, times(2)).assemble(1L);
+    }
+
+    @Test
+    @DisplayName("하드 만료가 지나면 기존 값을 응답하지 않고 다시 조립한다")
+    void getReloadsAfterHardExpiry() {
+        // given
+        BlogHomeResponseDto expired = home("expired");
+        BlogHomeResponseDto fresh = home("fresh");
+        when(blogHomeAssembler.assemble(1L)).thenReturn(expired, fresh);
+
+        blogHomeCache.get(1L);
+        advance(EXPIRE_AFTER_WRITE.plusSeconds(1));
+
+        // when
+        BlogHomeResponseDto result = blogHomeCache.get(1L);
+
+        // then
+        assertSame(fresh, result);
+    }
+
+    @Test
+    @DisplayName("콘텐츠 변경 이벤트를 받으면 해당 블로그만 비우고 다음 조회에서 다시 조립한다")
+    void onBlogContentChangedReloadsOnlyThatBlog() {
+        // given
+        BlogHomeResponseDto before = home("before");
+        BlogHomeResponseDto after = home("after");
+        BlogHomeResponseDto other = home("other");
+        when(blogHomeAssembler.assemble(1L)).thenReturn(before, after);
+        when(blogHomeAssembler.assemble(2L)).thenReturn(other);
+
+        blogHomeCache.get(1L);
+        blogHomeCache.get(2L);
+
+        // when
+        blogHomeCache.onBlogContentChanged(new BlogContentChangedEvent(1L));
+
+        // then
+        verify(blogHomeAssembler, times(1)).assemble(1L);
+        assertSame(after, blogHomeCache.get(1L));
+        assertSame(other, blogHomeCache.get(2L));
+        verify(blogHomeAssembler, times(1)).assemble(2L);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static BlogHomeResponseDto home(String title) {
+        BlogResponseDto blog = new BlogResponseDto(1L, title, "intro", null, "user1", null);
+        return BlogHomeResponseDto.of(blog, List.of(), List.of());
+    }
+}
@@ -0,0 +1,124 @@
+package com.shcho.myBlog.blog.service;
+
+import com.shcho.myBlog.blog.dto.BlogHomeResponseDto;
+import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
+import com.shcho.myBlog.category.service.CategoryService;
+import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.dto.PostRecentThumbnailResponseDto;
+import com.shcho.myBlog.post.service.PostService;
+import com.shcho.myBlog.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.BLOG_NOT_FOUND;
+import static com.shcho.myBlog.libs.exception.ErrorCode.CATEGORY_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BlogHomeAssembler Unit Test")
+@ExtendWith(MockitoExtension.class)
+class BlogHomeAssemblerTest {
+
+    @Mock private BlogService blogService;
+    @Mock private CategoryService categoryService;
+    @Mock private PostService postService;
+
+    private ExecutorService executor;
+    private BlogHomeAssembler blogHomeAssembler;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        blogHomeAssembler = new BlogHomeAssembler(blogService, categoryService, postService, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("블로그는 한 번만 조회하고 카테고리 트리와 최근 게시글은 blogId로 동시에 조회")
+    void assembleRunsIndependentQueriesInParallel() throws Exception {
+        // given
+        Blog blog = blog();
+        List<CategoryTreeResponseDto> tree = List.of();
+        List<PostRecentThumbnailResponseDto> recentPosts = List.of(new PostRecentThumbnailResponseDto(
+                10L, "title", "summary", null, 1, "카테고리", LocalDateTime.now()));
+
+        // 두 조회가 동시에 실행 중이어야만 barrier를 통과
+        CyclicBarrier bothRunning = new CyclicBarrier(2);
+
+        when(blogService.getBlogById(1L)).thenReturn(blog);
+        when(categoryService.getCategoryTreeByBlogId(1L)).thenAnswer(invocation -> {
+            bothRunning.await(5, TimeUnit.SECONDS);
+            return tree;
+        });
+        when(postService.getRecentPostThumbnailsByBlogId(1L, 6)).thenAnswer(invocation -> {
+            bothRunning.await(5, TimeUnit.SECONDS);
+            return recentPosts;
+        });
+
+        // when
+        BlogHomeResponseDto result = blogHomeAssembler.assemble(1L);
+
+        // then
+        assertEquals(1L, result.blog().id());
+        assertEquals("user1", result.blog().userNickName());
+        assertSame(tree, result.categories());
+        assertSame(recentPosts, result.recentPosts());
+        verify(blogService, times(1)).getBlogById(1L);
+    }
+
+    @Test
+    @DisplayName("블로그가 없으면 병렬 조회 없이 BLOG_NOT_FOUND")
+    void assembleFailedBlogNotFound() {
+        // given
+        when(blogService.getBlogById(99L))
+                .thenThrow(new CustomException(BLOG_NOT_FOUND));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> blogHomeAssembler.assemble(99L));
+
+        // then
+        assertEquals(BLOG_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(categoryService, postService);
+    }
+
+    @Test
+    @DisplayName("병렬 조회에서 발생한 CustomException은 그대로 전파")
+    void assemblePropagatesCustomException() {
+        // given
+        when(blogService.getBlogById(1L)).thenReturn(blog());
+        when(categoryService.getCategoryTreeByBlogId(1L))
+                .thenThrow(new CustomException(CATEGORY_NOT_FOUND));
+        // 실패한 조회와 동시에 실행되므로 호출 시점이 정해지지 않음
+        lenient().when(postService.getRecentPostThumbnailsByBlogId(1L, 6)).thenReturn(List.of());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> blogHomeAssembler.assemble(1L));
+
+        // then
+        assertEquals(CATEGORY_NOT_FOUND, exception.getErrorCode());
+    }
+
+    private static Blog blog() {
+        User user = User.builder().userId(1L).nickname("user1").build();
+        return Blog.builder().id(1L).title("user1의 블로그").user(user).build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.shcho.myBlog.blog.service;
+
+import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.libs.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.BLOG_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BlogIdResolver Unit Test")
+@ExtendWith(MockitoExtension.class)
+class BlogIdResolverTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    private BlogIdResolver blogIdResolver;
+
+    @BeforeEach
+    void setUp() {
+        blogIdResolver = new BlogIdResolver(blogRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 닉네임은 한 번만 조회하고 이후에는 캐시에서 응답")
+    void findBlogIdCachesResolvedNickname() {
+        // given
+        when(blogRepository.findBlogIdByNickname("user1")).thenReturn(Optional.of(10L));
+
+        // when
+        Optional<Long> first = blogIdResolver.findBlogId("user1");
+        Long second = blogIdResolver.getBlogId("user1");
+
+        // then
+        assertEquals(Optional.of(10L), first);
+        assertEquals(10L, second);
+        verify(blogRepository, times(1)).findBlogIdByNickname("user1");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 닉네임은 BLOG_NOT_FOUND, 반복 조회는 캐시에서 응답")
+    void getBlogIdFailedBlogNotFound() {
+        // given
+        when(blogRepository.findBlogIdByNickname("unknown")).thenReturn(Optional.empty());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> blogIdResolver.getBlogId("unknown"));
+        blogIdResolver.findBlogId("unknown");
+
+        // then
+        assertEquals(BLOG_NOT_FOUND, exception.getErrorCode());
+        verify(blogRepository, times(1)).findBlogIdByNickname("unknown");
+    }
+
+    @Test
+    @DisplayName("닉네임 변경으로 비운 닉네임은 다시 조회")
+    void evictRemovesNickname() {
+        // given
+        when(blogRepository.findBlogIdByNickname("oldNickname"))
+                .thenReturn(Optional.of(10L), Optional.empty());
+
+        // when
+        blogIdResolver.findBlogId("oldNickname");
+        blogIdResolver.evict("oldNickname");
+        Optional<Long> result = blogIdResolver.findBlogId("oldNickname");
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(blogRepository, times(2)).findBlogIdByNickname("oldNickname");
+    }
+
+    @Test
+    @DisplayName("가입으로 비운 '없는 닉네임'은 다시 조회해서 새 블로그를 찾는다")
+    void evictRemovesMissingNickname() {
+        // given
+        when(blogRepository.findBlogIdByNickname("newUser"))
+                .thenReturn(Optional.empty(), Optional.of(20L));
+
+        // when
+        blogIdResolver.findBlogId("newUser");
+        blogIdResolver.evict("newUser");
+        Optional<Long> result = blogIdResolver.findBlogId("newUser");
+
+        // then
+        assertEquals(Optional.of(20L), result);
+    }
+}
@@ -22,6 +22,8 @@ import static org.mockito.Mockito.*;
 class BlogServiceTest {
 
     @Mock private BlogRepository blogRepository;
+    @Mock private BlogContentVersionService blogContentVersionService;
+    @Mock private BlogIdResolver blogIdResolver;
     @InjectMocks private BlogService blogService;
 
     @Test
@@ -96,7 +98,8 @@ class BlogServiceTest {
                 .user(user)
                 .build();
 
-        when(blogRepository.findBlogByUserNicknameFetchUser(nickname))
+        when(blogIdResolver.getBlogId(nickname)).thenReturn(1L);
+        when(blogRepository.findBlogByIdFetchUser(1L))
                 .thenReturn(Optional.of(blog));
 
         // when
@@ -108,7 +111,7 @@ class BlogServiceTest {
         assertEquals(nickname + "의 블로그", result.getTitle());
         assertEquals(user, result.getUser());
 
-        verify(blogRepository, times(1)).findBlogByUserNicknameFetchUser(nickname);
+        verify(blogRepository, times(1)).findBlogByIdFetchUser(1L);
         verifyNoMoreInteractions(blogRepository);
     }
 
@@ -118,16 +121,15 @@ class BlogServiceTest {
         // given
         String nickname = "unknownNickname";
 
-        when(blogRepository.findBlogByUserNicknameFetchUser(nickname))
-                .thenReturn(Optional.empty());
+        when(blogIdResolver.getBlogId(nickname))
+                .thenThrow(new CustomException(BLOG_NOT_FOUND));
 
         // when & then
         CustomException exception = assertThrows(CustomException.class,
                 () -> blogService.getUserBlogByNickname(nickname));
 
         assertEquals(BLOG_NOT_FOUND, exception.getErrorCode());
-        verify(blogRepository, times(1)).findBlogByUserNicknameFetchUser(nickname);
-        verifyNoMoreInteractions(blogRepository);
+        verifyNoInteractions(blogRepository);
     }
 
     @Test
@@ -170,6 +172,7 @@ class BlogServiceTest {
         // repo는 조회만 1번 호출되고, save는 호출되지 않는 게 정상(현재 구현 기준)
         verify(blogRepository, times(1)).findBlogByUserIdFetchUser(userId);
         verifyNoMoreInteractions(blogRepository);
+        verify(blogContentVersionService, times(1)).bump(blog.getId());
     }
 
 }
\ No newline at end of file
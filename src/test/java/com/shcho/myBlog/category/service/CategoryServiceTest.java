@@ -1,19 +1,29 @@
 package com.shcho.myBlog.category.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shcho.myBlog.blog.entity.Blog;
 import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.blog.service.BlogIdResolver;
+import com.shcho.myBlog.category.cache.CategoryTreeCache;
 import com.shcho.myBlog.category.dto.CategoryTreeResponseDto;
 import com.shcho.myBlog.category.dto.CreateCategoryRequestDto;
 import com.shcho.myBlog.category.dto.UpdateCategoryRequest;
 import com.shcho.myBlog.category.entity.Category;
 import com.shcho.myBlog.category.repository.CategoryRepository;
+import com.shcho.myBlog.common.util.SingleFlight;
 import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.entity.PostCounter;
+import com.shcho.myBlog.post.repository.PostCounterRepository;
+import com.shcho.myBlog.post.service.PostReadModelService;
 import com.shcho.myBlog.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -24,8 +34,7 @@ import java.util.Optional;
 import static com.shcho.myBlog.libs.exception.ErrorCode.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @DisplayName("Category Service Unit Test")
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +44,18 @@ class CategoryServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private BlogRepository blogRepository;
+    @Mock
+    private PostCounterRepository postCounterRepository;
+    @Mock
+    private BlogContentVersionService blogContentVersionService;
+    @Spy
+    private CategoryTreeCache categoryTreeCache = new CategoryTreeCache(new ObjectMapper());
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+    @Mock
+    private BlogIdResolver blogIdResolver;
+    @Mock
+    private PostReadModelService postReadModelService;
     @InjectMocks
     private CategoryService categoryService;
 
@@ -379,8 +400,7 @@ class CategoryServiceTest {
         // parent2 child
         categories.add(Category.builder().id(5L).name("child3").blog(blog).parent(parent2).build());
 
-        when(blogRepository.findBlogByUserNicknameFetchUser(nickname))
-                .thenReturn(Optional.of(blog));
+        when(blogIdResolver.getBlogId(nickname)).thenReturn(blog.getId());
         when(categoryRepository.findAllByBlogIdOrderByNameAsc(blog.getId()))
                 .thenReturn(categories);
 
@@ -424,6 +444,33 @@ class CategoryServiceTest {
         assertNotNull(updatedCategory);
         assertEquals(request.name().trim(), updatedCategory.getName());
         assertEquals(request.description(), updatedCategory.getDescription());
+        verify(postReadModelService, times(1)).renameCategory(blog.getId(), category.getId(), "updatedName");
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 성공 - 이름이 같으면 목록 조회 모델은 갱신하지 않음")
+    void updateCategoryWithoutRenameSkipsReadModel() {
+        // given
+        Long userId = 1L;
+        User user = User.builder().userId(userId).nickname("nickname").build();
+        Blog blog = Blog.builder().id(1L).user(user).build();
+
+        Category category = Category.builder().id(2L).name("A").blog(blog).parent(null).build();
+
+        UpdateCategoryRequest request = new UpdateCategoryRequest(" A ", "updateDescription", null);
+
+        when(blogRepository.findBlogByUserIdFetchUser(userId))
+                .thenReturn(Optional.of(blog));
+        when(categoryRepository.findById(2L))
+                .thenReturn(Optional.of(category));
+        when(categoryRepository.existsByBlogIdAndParentIdAndNameAndIdNot(blog.getId(), null, "A", category.getId()))
+                .thenReturn(false);
+
+        // when
+        categoryService.updateCategory(userId, category.getId(), request);
+
+        // then
+        verify(postReadModelService, never()).renameCategory(any(), any(), any());
     }
 
     @Test
@@ -633,6 +680,49 @@ class CategoryServiceTest {
         assertEquals(DUPLICATED_CATEGORY_NAME, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("닉네임으로 카테고리 트리 조회 - 게시글 수 포함, 두 번째 조회부터 캐시 사용, 무효화 후 다시 조회")
+    void getCategoryTreeByNicknameCachedWithPostCounts() {
+        // given
+        String nickname = "nickname";
+
+        User user = User.builder().userId(1L).nickname(nickname).build();
+        Blog blog = Blog.builder().id(10L).user(user).build();
+
+        Category parent1 = Category.builder().id(1L).name("parent1").blog(blog).parent(null).build();
+        Category childA = Category.builder().id(4L).name("a").blog(blog).parent(parent1).build();
+        Category childB = Category.builder().id(3L).name("b").blog(blog).parent(parent1).build();
+
+        when(blogIdResolver.getBlogId(nickname)).thenReturn(blog.getId());
+        when(categoryRepository.findAllByBlogIdOrderByNameAsc(blog.getId()))
+                .thenReturn(List.of(parent1, childA, childB));
+        when(postCounterRepository.findAllByBlogId(blog.getId()))
+                .thenReturn(List.of(
+                        PostCounter.builder().blogId(10L).categoryId(1L).totalCount(3).publicCount(2).build(),
+                        PostCounter.builder().blogId(10L).categoryId(4L).totalCount(5).publicCount(3).build()
+                ));
+
+        // when
+        List<CategoryTreeResponseDto> first = categoryService.getCategoryTreeByNickname(nickname);
+        byte[] json = categoryService.getCategoryTreeJsonByNickname(nickname);
+
+        // then
+        CategoryTreeResponseDto dtoParent1 = findRootByName(first, "parent1");
+        assertEquals(5, dtoParent1.postCount());
+        assertEquals(3, dtoParent1.children().get(0).postCount());
+        assertEquals(0, dtoParent1.children().get(1).postCount());
+        assertTrue(new String(json, java.nio.charset.StandardCharsets.UTF_8).contains("\"postCount\":5"));
+
+        verify(categoryRepository, times(1)).findAllByBlogIdOrderByNameAsc(blog.getId());
+
+        // when : 무효화 후 재조회
+        categoryTreeCache.evict(blog.getId());
+        categoryService.getCategoryTreeByNickname(nickname);
+
+        // then
+        verify(categoryRepository, times(2)).findAllByBlogIdOrderByNameAsc(blog.getId());
+    }
+
     @Test
     @DisplayName("내 카테고리 삭제 성공")
     void deleteCategorySuccess() {
@@ -686,6 +776,7 @@ class CategoryServiceTest {
         assertEquals(defaultCategory.getId(), child2.getParent().getId());
 
         verify(categoryRepository).delete(root);
+        verify(blogContentVersionService).bump(blog.getId());
     }
 
     @Test
@@ -0,0 +1,93 @@
+package com.shcho.myBlog.common.interceptor;
+
+import com.shcho.myBlog.blog.dto.BlogContentVersionDto;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PublicContentVersionInterceptor Unit Test")
+@ExtendWith(MockitoExtension.class)
+class PublicContentVersionInterceptorTest {
+
+    @Mock
+    private BlogContentVersionService blogContentVersionService;
+    @InjectMocks
+    private PublicContentVersionInterceptor interceptor;
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 핸들러 실행 없이 304")
+    void notModifiedWhenEtagMatches() {
+        // given
+        MockHttpServletRequest request = publicRequest("nickname");
+        request.addHeader("If-None-Match", "\"10-3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(blogContentVersionService.findByNickname("nickname"))
+                .thenReturn(Optional.of(new BlogContentVersionDto(10L, 3L, LocalDateTime.now())));
+
+        // when
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // then
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 핸들러를 실행하고 새 ETag를 내려준다")
+    void proceedWithNewEtagWhenVersionChanged() {
+        // given
+        MockHttpServletRequest request = publicRequest("nickname");
+        request.addHeader("If-None-Match", "\"10-3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(blogContentVersionService.findByNickname("nickname"))
+                .thenReturn(Optional.of(new BlogContentVersionDto(10L, 4L, LocalDateTime.now())));
+
+        // when
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // then
+        assertTrue(proceed);
+        assertEquals("\"10-4\"", response.getHeader("ETag"));
+        assertNotNull(response.getHeader("Last-Modified"));
+    }
+
+    @Test
+    @DisplayName("없는 블로그는 버전 확인 없이 핸들러로 넘긴다")
+    void proceedWhenBlogNotFound() {
+        // given
+        MockHttpServletRequest request = publicRequest("unknown");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(blogContentVersionService.findByNickname("unknown"))
+                .thenReturn(Optional.empty());
+
+        // when
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // then
+        assertTrue(proceed);
+        assertNull(response.getHeader("ETag"));
+    }
+
+    private MockHttpServletRequest publicRequest(String nickname) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/public/" + nickname);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("nickname", nickname));
+        return request;
+    }
+}
@@ -0,0 +1,242 @@
+package com.shcho.myBlog.common.repository;
+
+import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.category.repository.CategoryRepository;
+import com.shcho.myBlog.common.config.QuerydslConfig;
+import com.shcho.myBlog.common.entity.UploadStatus;
+import com.shcho.myBlog.post.dto.PostCursor;
+import com.shcho.myBlog.post.repository.PostCounterRepository;
+import com.shcho.myBlog.post.repository.PostQueryRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 리포지토리 조회가 실행하는 SQL을 모두 모아 EXPLAIN 하고, 테이블 전체 스캔이 있으면 실패한다.
+ * 인덱스 선언이 빠지거나 조회 조건이 인덱스를 벗어나는 변경을 잡기 위한 테스트이며 H2(MariaDB 모드)에서 실행한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostQueryRepository.class, RepositoryQueryPlanTest.SqlCaptureConfig.class})
+@DisplayName("Repository Query Plan Test")
+class RepositoryQueryPlanTest {
+
+    private static final Long BLOG_ID = 1L;
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+    private static final PostCursor CURSOR = new PostCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 100L);
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private SqlCapture sqlCapture;
+    @Autowired
+    private PostQueryRepository postQueryRepository;
+    @Autowired
+    private PostCounterRepository postCounterRepository;
+    @Autowired
+    private UploadFileRepository uploadFileRepository;
+    @Autowired
+    private ObjectDeleteOutboxRepository objectDeleteOutboxRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @BeforeEach
+    void setUp() {
+        sqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("공개 게시글 목록 조회 (page, slice, cursor)")
+    void publicPostThumbnails() {
+        assertNoFullScan(() -> postQueryRepository.findPostThumbnailsByBlogIdSlice(BLOG_ID, PAGE));
+        assertNoFullScan(() -> postQueryRepository.findPostThumbnailsByBlogIdWithCursor(BLOG_ID, null, 10));
+        assertNoFullScan(() -> postQueryRepository.findPostThumbnailsByBlogIdWithCursor(BLOG_ID, CURSOR, 10));
+    }
+
+    @Test
+    @DisplayName("카테고리별 공개 게시글 목록 조회")
+    void publicPostThumbnailsByCategory() {
+        assertNoFullScan(() -> postQueryRepository.findPostThumbnailsByBlogIdAndCategoryIdSlice(BLOG_ID, 10L, PAGE));
+        assertNoFullScan(() -> postQueryRepository
+                .findPostThumbnailsByBlogIdAndCategoryIdWithCursor(BLOG_ID, 10L, CURSOR, 10));
+    }
+
+    @Test
+    @DisplayName("검색어로 공개 게시글 목록 조회")
+    void publicPostThumbnailsByKeyword() {
+        assertNoFullScan(() -> postQueryRepository.findPostThumbnailsByBlogIdAndKeywordSlice(BLOG_ID, "스프링", PAGE));
+        // 두 번째 페이지는 결과가 비어 있어도 count 쿼리가 실행됨
+        assertNoFullScan(() -> postQueryRepository
+                .findPostThumbnailsByBlogIdAndKeyword(BLOG_ID, "스프링", PageRequest.of(1, 10)));
+        assertNoFullScan(() -> postQueryRepository
+                .findPostThumbnailsByBlogIdAndKeywordWithCursor(BLOG_ID, "스프링", CURSOR, 10));
+    }
+
+    @Test
+    @DisplayName("최근 게시글, 내 게시글 목록 조회")
+    void recentAndMyPosts() {
+        assertNoFullScan(() -> postQueryRepository.findRecentPostsByBlogId(BLOG_ID, 6));
+        assertNoFullScan(() -> postQueryRepository.getMyAllPostsSlice(BLOG_ID, null, PAGE));
+        assertNoFullScan(() -> postQueryRepository.getMyAllPostsWithCursor(BLOG_ID, false, CURSOR, 10));
+    }
+
+    @Test
+    @DisplayName("게시글 상세, 소유권 확인 조회")
+    void postDetail() {
+        assertNoFullScan(() -> postQueryRepository.findPostByBlogIdAndPostId(BLOG_ID, 100L));
+        assertNoFullScan(() -> postQueryRepository.getMyPostByBlog(BLOG_ID, 100L));
+        assertNoFullScan(() -> postQueryRepository.getMyPostWithContentByBlog(BLOG_ID, 100L));
+        assertNoFullScan(() -> postQueryRepository.findAdjacentPosts(BLOG_ID, 10L, CURSOR));
+        assertNoFullScan(() -> postQueryRepository.findPostsByBlogIdAndPostIds(BLOG_ID, List.of(100L, 101L)));
+    }
+
+    @Test
+    @DisplayName("게시글 카운터 조회")
+    void postCounter() {
+        assertNoFullScan(() -> postCounterRepository.findAllByBlogId(BLOG_ID));
+    }
+
+    @Test
+    @DisplayName("업로드 파일 조회 (첨부 파일, 정리 배치)")
+    void uploadFile() {
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertNoFullScan(() -> uploadFileRepository.findAllByPostIdAndStatus(100L, UploadStatus.ATTACHED));
+        assertNoFullScan(() -> uploadFileRepository.findAllById(List.of(100L, 101L)));
+        assertNoFullScan(() -> uploadFileRepository
+                .findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(UploadStatus.TEMP, cutoff, 100L, PAGE));
+        assertNoFullScan(() -> uploadFileRepository
+                .findAllByStatusAndDeletedAtBeforeAndIdGreaterThanOrderByIdAsc(UploadStatus.DELETED, cutoff, 100L, PAGE));
+    }
+
+    @Test
+    @DisplayName("MinIO 삭제 outbox 처리 대상 조회")
+    void objectDeleteOutbox() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertNoFullScan(() -> objectDeleteOutboxRepository.findAllByNextAttemptAtLessThanEqualOrderByIdAsc(now, PAGE));
+    }
+
+    @Test
+    @DisplayName("카테고리 조회")
+    void category() {
+        assertNoFullScan(() -> categoryRepository.existsByBlogIdAndParentIdAndName(BLOG_ID, null, "Java"));
+        assertNoFullScan(() -> categoryRepository.existsByBlogIdAndParentIdAndNameAndIdNot(BLOG_ID, 1L, "Java", 2L));
+        assertNoFullScan(() -> categoryRepository.findAllByBlogIdOrderByNameAsc(BLOG_ID));
+        assertNoFullScan(() -> categoryRepository.findAllByBlogIdAndParentIsNullOrderByNameAsc(BLOG_ID));
+        assertNoFullScan(() -> categoryRepository.findAllByBlogIdAndParentId(BLOG_ID, 1L));
+        assertNoFullScan(() -> categoryRepository.findByBlogIdAndName(BLOG_ID, "미분류"));
+        assertNoFullScan(() -> categoryRepository.existsByParent_Id(1L));
+    }
+
+    @Test
+    @DisplayName("블로그 조회")
+    void blog() {
+        assertNoFullScan(() -> blogRepository.findBlogByUserIdFetchUser(1L));
+        assertNoFullScan(() -> blogRepository.findBlogByIdFetchUser(BLOG_ID));
+        assertNoFullScan(() -> blogRepository.findBlogIdByNickname("user1"));
+        assertNoFullScan(() -> blogRepository.findBlogIdByUserId(1L));
+    }
+
+    private void assertNoFullScan(Runnable query) {
+        sqlCapture.clear();
+        query.run();
+
+        List<String> selects = sqlCapture.selects();
+        assertFalse(selects.isEmpty(), "실행된 조회 쿼리가 없음");
+
+        for (String sql : selects) {
+            String plan = explain(sql);
+            assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"),
+                    () -> "전체 스캔이 포함된 실행 계획\n" + sql + "\n" + plan);
+        }
+    }
+
+    // 실행 계획은 prepare 시점에 정해지므로 파라미터 값은 null로 채움
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN 실패: " + sql, e);
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        List<String> selects() {
+            return statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                    .toList();
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+}
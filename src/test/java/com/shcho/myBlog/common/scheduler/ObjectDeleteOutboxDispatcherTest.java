@@ -0,0 +1,130 @@
+package com.shcho.myBlog.common.scheduler;
+
+import com.shcho.myBlog.common.dto.ObjectDeleteResult;
+import com.shcho.myBlog.common.entity.ObjectDeleteOutbox;
+import com.shcho.myBlog.common.event.ObjectDeleteEnqueuedEvent;
+import com.shcho.myBlog.common.repository.ObjectDeleteOutboxRepository;
+import com.shcho.myBlog.common.service.MinioService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ObjectDeleteOutboxDispatcher Unit Test")
+@ExtendWith(MockitoExtension.class)
+class ObjectDeleteOutboxDispatcherTest {
+
+    @Mock
+    private ObjectDeleteOutboxRepository objectDeleteOutboxRepository;
+
+    @Mock
+    private MinioService minioService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ObjectDeleteOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new ObjectDeleteOutboxDispatcher(
+                objectDeleteOutboxRepository, minioService, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제에 성공한 행은 한 번에 지우고, 실패한 객체의 행만 backoff 후 재시도로 예약한다")
+    void dispatchDeletesAndSchedulesRetry() {
+        // given
+        ObjectDeleteOutbox ok = outbox(1L, "users/1/images/a.png");
+        ObjectDeleteOutbox fail = outbox(2L, "users/1/images/b.png");
+
+        when(objectDeleteOutboxRepository.findAllByNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(ok, fail));
+        when(minioService.deleteObjects(List.of("users/1/images/a.png", "users/1/images/b.png")))
+                .thenReturn(new ObjectDeleteResult(
+                        Set.of("users/1/images/a.png"),
+                        Map.of("users/1/images/b.png", "InternalError: We encountered an internal error")));
+        when(objectDeleteOutboxRepository.count()).thenReturn(1L);
+
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(objectDeleteOutboxRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+
+        ArgumentCaptor<List<ObjectDeleteOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(objectDeleteOutboxRepository, times(1)).saveAll(captor.capture());
+        ObjectDeleteOutbox retried = captor.getValue().get(0);
+        assertEquals(2L, retried.getId());
+        assertEquals(1, retried.getAttempts());
+        assertFalse(retried.getNextAttemptAt().isBefore(before.plusSeconds(30)));
+        assertEquals("InternalError: We encountered an internal error", retried.getLastError());
+
+        assertEquals(1.0, meterRegistry.get("object.delete.outbox.depth").gauge().value());
+        assertEquals(1.0, meterRegistry.get("object.delete.outbox.dispatched").tag("result", "deleted").counter().count());
+        assertEquals(1.0, meterRegistry.get("object.delete.outbox.dispatched").tag("result", "retry").counter().count());
+    }
+
+    @Test
+    @DisplayName("한 배치가 가득 차면 다음 배치를 이어서 읽는다")
+    void dispatchDrainsFullBatches() {
+        // given
+        List<ObjectDeleteOutbox> full = LongStream.rangeClosed(1, ObjectDeleteOutboxDispatcher.BATCH_SIZE)
+                .mapToObj(id -> outbox(id, "users/1/images/" + id + ".png"))
+                .toList();
+
+        when(objectDeleteOutboxRepository.findAllByNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(full)
+                .thenReturn(List.of(outbox(101L, "users/1/images/101.png")));
+        when(minioService.deleteObjects(any()))
+                .thenAnswer(inv -> new ObjectDeleteResult(Set.copyOf(inv.<List<String>>getArgument(0)), Map.of()));
+
+        // when
+        dispatcher.onEnqueued(new ObjectDeleteEnqueuedEvent(101));
+
+        // then
+        verify(minioService, times(2)).deleteObjects(any());
+        verify(objectDeleteOutboxRepository, times(2))
+                .findAllByNextAttemptAtLessThanEqualOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class));
+        verify(objectDeleteOutboxRepository, times(2)).deleteAllByIdInBatch(any());
+        verify(objectDeleteOutboxRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 30초부터 두 배씩 늘고 1시간을 넘지 않는다")
+    void backoff() {
+        assertEquals(Duration.ofSeconds(30), ObjectDeleteOutboxDispatcher.backoff(1));
+        assertEquals(Duration.ofMinutes(1), ObjectDeleteOutboxDispatcher.backoff(2));
+        assertEquals(Duration.ofMinutes(4), ObjectDeleteOutboxDispatcher.backoff(4));
+        assertEquals(Duration.ofHours(1), ObjectDeleteOutboxDispatcher.backoff(20));
+        assertEquals(Duration.ofHours(1), ObjectDeleteOutboxDispatcher.backoff(1_000));
+    }
+
+    private static ObjectDeleteOutbox outbox(Long id, String objectName) {
+        return ObjectDeleteOutbox.builder()
+                .id(id)
+                .objectName(objectName)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
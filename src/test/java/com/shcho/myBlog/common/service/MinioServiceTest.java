@@ -1,9 +1,14 @@
 package com.shcho.myBlog.common.service;
 
+import com.shcho.myBlog.common.dto.ObjectDeleteResult;
 import com.shcho.myBlog.libs.exception.CustomException;
 import io.minio.MinioClient;
 import io.minio.ObjectWriteResponse;
 import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +21,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static com.shcho.myBlog.common.entity.UploadType.ATTACHMENT;
 import static com.shcho.myBlog.common.entity.UploadType.IMAGE;
@@ -146,4 +155,77 @@ class MinioServiceTest {
         assertTrue(urlCaptor.getValue().startsWith("https://minio.shhome.synology.me/shblog/users/1/images/"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 삭제 - 실패한 객체만 실패로 보고")
+    void deleteObjectsReportsFailedObjects() {
+        // given
+        ReflectionTestUtils.setField(minioService, "bucket", "shblog");
+
+        DeleteError error = mock(DeleteError.class);
+        when(error.objectName()).thenReturn("users/1/images/b.jpg");
+        when(error.code()).thenReturn("AccessDenied");
+        when(error.message()).thenReturn("Access Denied.");
+        when(minioClient.removeObjects(any(RemoveObjectsArgs.class)))
+                .thenReturn(List.of(new Result<>(error)));
+
+        // when
+        ObjectDeleteResult result = minioService.deleteObjects(
+                List.of("users/1/images/a.jpg", "users/1/images/b.jpg", "users/1/images/a.jpg"));
+
+        // then
+        assertEquals(Set.of("users/1/images/a.jpg"), result.deleted());
+        assertEquals(Map.of("users/1/images/b.jpg", "AccessDenied: Access Denied."), result.failed());
+        verify(minioClient, times(1)).removeObjects(any(RemoveObjectsArgs.class));
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 1000개씩 나눠 요청")
+    void deleteObjectsSplitsRequestsBy1000() {
+        // given
+        ReflectionTestUtils.setField(minioService, "bucket", "shblog");
+
+        List<String> objectNames = IntStream.range(0, 1500)
+                .mapToObj(i -> "users/1/images/" + i + ".jpg")
+                .toList();
+        when(minioClient.removeObjects(any(RemoveObjectsArgs.class)))
+                .thenReturn(List.of());
+
+        // when
+        ObjectDeleteResult result = minioService.deleteObjects(objectNames);
+
+        // then
+        assertEquals(1500, result.deleted().size());
+        assertTrue(result.failed().isEmpty());
+
+        ArgumentCaptor<RemoveObjectsArgs> captor = ArgumentCaptor.forClass(RemoveObjectsArgs.class);
+        verify(minioClient, times(2)).removeObjects(captor.capture());
+
+        List<Integer> requestSizes = captor.getAllValues().stream()
+                .map(args -> {
+                    int count = 0;
+                    for (DeleteObject ignored : args.objects()) count++;
+                    return count;
+                })
+                .toList();
+        assertEquals(List.of(1000, 500), requestSizes);
+        assertEquals("shblog", captor.getValue().bucket());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 요청 자체가 실패하면 해당 요청의 객체 전부 실패")
+    void deleteObjectsRequestFailed() {
+        // given
+        ReflectionTestUtils.setField(minioService, "bucket", "shblog");
+
+        when(minioClient.removeObjects(any(RemoveObjectsArgs.class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        ObjectDeleteResult result = minioService.deleteObjects(List.of("users/1/images/a.jpg", "users/1/images/b.jpg"));
+
+        // then
+        assertTrue(result.deleted().isEmpty());
+        assertEquals(Set.of("users/1/images/a.jpg", "users/1/images/b.jpg"), result.failed().keySet());
+    }
+}
@@ -0,0 +1,138 @@
+package com.shcho.myBlog.common.service;
+
+import com.shcho.myBlog.common.entity.UploadFile;
+import com.shcho.myBlog.common.entity.UploadStatus;
+import com.shcho.myBlog.common.repository.UploadFileRepository;
+import com.shcho.myBlog.libs.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.FILE_FORBIDDEN;
+import static com.shcho.myBlog.libs.exception.ErrorCode.FILE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UploadFile Service Unit Test")
+@ExtendWith(MockitoExtension.class)
+class UploadFileServiceTest {
+
+    @Mock
+    private UploadFileRepository uploadFileRepository;
+
+    @Mock
+    private ObjectDeleteOutboxService objectDeleteOutboxService;
+
+    @InjectMocks
+    private UploadFileService uploadFileService;
+
+    @Test
+    @DisplayName("첨부 성공 - 한 번 조회하고 한 번의 update로 첨부")
+    void attachFilesToPostSuccess() {
+        // given
+        Long userId = 1L;
+        Long postId = 10L;
+        Set<Long> fids = new LinkedHashSet<>(List.of(1L, 2L));
+
+        when(uploadFileRepository.findAllById(fids))
+                .thenReturn(List.of(file(1L, userId, UploadStatus.TEMP), file(2L, userId, UploadStatus.ATTACHED)));
+
+        // when
+        uploadFileService.attachFilesToPost(userId, postId, fids);
+
+        // then
+        verify(uploadFileRepository, times(1))
+                .attachAllToPost(eq(fids), eq(postId), eq(UploadStatus.ATTACHED), any(LocalDateTime.class));
+        verify(uploadFileRepository, never()).findById(any());
+        verify(uploadFileRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("첨부할 파일이 없으면 조회하지 않는다")
+    void attachFilesToPostEmpty() {
+        // when
+        uploadFileService.attachFilesToPost(1L, 10L, Set.of());
+
+        // then
+        verifyNoInteractions(uploadFileRepository);
+    }
+
+    @Test
+    @DisplayName("첨부 실패 - 존재하지 않는 파일")
+    void attachFilesToPostFailedFileNotFound() {
+        // given
+        Set<Long> fids = Set.of(1L, 2L);
+
+        when(uploadFileRepository.findAllById(fids))
+                .thenReturn(List.of(file(1L, 1L, UploadStatus.TEMP)));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> uploadFileService.attachFilesToPost(1L, 10L, fids));
+        assertEquals(FILE_NOT_FOUND, exception.getErrorCode());
+        verify(uploadFileRepository, never()).attachAllToPost(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("첨부 실패 - 삭제된 파일")
+    void attachFilesToPostFailedFileDeleted() {
+        // given
+        Set<Long> fids = Set.of(1L);
+
+        when(uploadFileRepository.findAllById(fids))
+                .thenReturn(List.of(file(1L, 1L, UploadStatus.DELETED)));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> uploadFileService.attachFilesToPost(1L, 10L, fids));
+        assertEquals(FILE_NOT_FOUND, exception.getErrorCode());
+        verify(uploadFileRepository, never()).attachAllToPost(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("첨부 실패 - 다른 사용자의 파일")
+    void attachFilesToPostFailedForbidden() {
+        // given
+        Set<Long> fids = Set.of(1L);
+
+        when(uploadFileRepository.findAllById(fids))
+                .thenReturn(List.of(file(1L, 2L, UploadStatus.TEMP)));
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> uploadFileService.attachFilesToPost(1L, 10L, fids));
+        assertEquals(FILE_FORBIDDEN, exception.getErrorCode());
+        verify(uploadFileRepository, never()).attachAllToPost(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("삭제 처리는 한 번의 update로 실행하고 MinIO 객체 삭제는 outbox에 쌓는다")
+    void markAllDeleted() {
+        // given
+        List<UploadFile> files = List.of(file(1L, 1L, UploadStatus.ATTACHED), file(2L, 1L, UploadStatus.ATTACHED));
+
+        // when
+        uploadFileService.markAllDeleted(files);
+
+        // then
+        verify(uploadFileRepository, times(1))
+                .markAllDeleted(eq(List.of(1L, 2L)), eq(UploadStatus.DELETED), any(LocalDateTime.class));
+        verify(objectDeleteOutboxService, times(1))
+                .enqueue(List.of("users/1/images/1.png", "users/1/images/2.png"));
+    }
+
+    private static UploadFile file(Long id, Long userId, UploadStatus status) {
+        return UploadFile.builder().id(id).userId(userId).status(status)
+                .objectName("users/" + userId + "/images/" + id + ".png").build();
+    }
+}
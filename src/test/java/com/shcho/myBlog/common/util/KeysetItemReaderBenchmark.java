@@ -0,0 +1,112 @@
+package com.shcho.myBlog.common.util;
+
+import com.shcho.myBlog.common.entity.UploadFile;
+import com.shcho.myBlog.common.entity.UploadStatus;
+import com.shcho.myBlog.common.repository.UploadFileRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.shcho.myBlog.common.util.KeysetItemReaderTest.CUTOFF;
+import static com.shcho.myBlog.common.util.KeysetItemReaderTest.insertUploadFiles;
+
+/**
+ * 업로드 파일 100,000건에서 정리 배치 대상을 키셋(id > 마지막 id)과 페이지 번호(OFFSET)로 끝까지 읽는 시간을 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyset-reader-benchmark;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("KeysetItemReader Benchmark")
+class KeysetItemReaderBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private UploadFileRepository uploadFileRepository;
+
+    @Test
+    @DisplayName("100,000건 기준 키셋 읽기와 페이지 번호 읽기의 처리 시간")
+    void keysetVersusPageNumber() {
+        insertUploadFiles(new JdbcTemplate(dataSource), ROWS);
+
+        // 읽는 동안 행을 바꾸지 않으므로 두 방식의 결과가 같아야 함
+        long pageStart = System.nanoTime();
+        List<Long> pageRead = readByPageNumber();
+        long pageMillis = (System.nanoTime() - pageStart) / 1_000_000;
+
+        long keysetStart = System.nanoTime();
+        List<Long> keysetRead = readByKeyset();
+        long keysetMillis = (System.nanoTime() - keysetStart) / 1_000_000;
+
+        if (!keysetRead.equals(pageRead)) {
+            throw new IllegalStateException("키셋 읽기 결과가 페이지 번호 읽기와 다름");
+        }
+
+        System.out.printf("rows: %d, targets: %d, chunk: %d%n", ROWS, keysetRead.size(), CHUNK_SIZE);
+        System.out.printf("%-12s %10s%n", "paging", "time(ms)");
+        System.out.printf("%-12s %10d%n", "page number", pageMillis);
+        System.out.printf("%-12s %10d%n", "keyset", keysetMillis);
+        System.out.printf("speedup: %.1fx%n", (double) pageMillis / Math.max(1, keysetMillis));
+    }
+
+    private List<Long> readByKeyset() {
+        KeysetItemReader<UploadFile> reader = new KeysetItemReader<>("tempFilesReader", CHUNK_SIZE,
+                UploadFile::getId,
+                (lastId, pageSize) -> uploadFileRepository.findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                        UploadStatus.TEMP, CUTOFF, lastId, PageRequest.of(0, pageSize)));
+
+        List<Long> read = new ArrayList<>();
+        reader.open(new ExecutionContext());
+
+        UploadFile item;
+        while ((item = reader.read()) != null) {
+            read.add(item.getId());
+            if (read.size() % CHUNK_SIZE == 0) {
+                entityManager.clear();
+            }
+        }
+
+        reader.close();
+        entityManager.clear();
+        return read;
+    }
+
+    private List<Long> readByPageNumber() {
+        List<Long> read = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            List<UploadFile> chunk = uploadFileRepository.findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    UploadStatus.TEMP, CUTOFF, 0L, PageRequest.of(page, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            chunk.forEach(file -> read.add(file.getId()));
+            entityManager.clear();
+        }
+        return read;
+    }
+}
@@ -0,0 +1,219 @@
+package com.shcho.myBlog.common.util;
+
+import com.shcho.myBlog.common.entity.UploadFile;
+import com.shcho.myBlog.common.entity.UploadStatus;
+import com.shcho.myBlog.common.repository.UploadFileRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 파일 정리 배치와 같은 조건으로 5,000건을 넣고, writer가 읽은 행을 바꾸는 동안 빠짐없이 읽는지 확인한다.
+ * 100,000건 기준 조회 시간은 KeysetItemReaderBenchmark 에서 잰다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:keyset-reader;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("KeysetItemReader Test")
+class KeysetItemReaderTest {
+
+    static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final int ROWS = 5_000;
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private UploadFileRepository uploadFileRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        insertUploadFiles(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    @DisplayName("writer가 읽은 TEMP 파일을 DELETED로 바꿔도 대상 행을 한 번씩 모두 읽음")
+    void readsEveryTempFileWhileStatusChanges() {
+        // given
+        List<Long> expected = targetIds("created_at");
+        AtomicInteger queries = new AtomicInteger();
+        KeysetItemReader<UploadFile> reader = tempFilesReader(queries);
+
+        // when
+        // MinIO 삭제에 실패한 파일(10건 중 1건)은 TEMP로 남김
+        List<Long> read = readAll(reader, chunk -> uploadFileRepository.markAllDeleted(
+                chunk.stream().map(UploadFile::getId).filter(id -> id % 10 != 0).toList(),
+                UploadStatus.DELETED,
+                CUTOFF
+        ));
+
+        // then
+        assertThat(expected).hasSizeGreaterThan(2_000);
+        assertThat(read).containsExactlyElementsOf(expected);
+        assertThat(queries.get()).isEqualTo(expected.size() / CHUNK_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("writer가 읽은 DELETED 파일 행을 지워도 대상 행을 한 번씩 모두 읽음")
+    void readsEveryDeletedFileWhileRowsArePurged() {
+        // given
+        List<Long> expected = targetIds("deleted_at");
+        KeysetItemReader<UploadFile> reader = new KeysetItemReader<>("deletedFilesReader", CHUNK_SIZE,
+                UploadFile::getId,
+                (lastId, pageSize) -> uploadFileRepository.findAllByStatusAndDeletedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                        UploadStatus.DELETED, CUTOFF, lastId, PageRequest.of(0, pageSize)));
+
+        // when
+        List<Long> read = readAll(reader, chunk -> uploadFileRepository.deleteAllByIdInBatch(
+                chunk.stream().map(UploadFile::getId).toList()));
+
+        // then
+        assertThat(expected).hasSizeGreaterThan(500);
+        assertThat(read).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("재시작하면 마지막으로 저장한 id 다음부터 읽음")
+    void resumesFromSavedLastId() {
+        // given
+        List<Long> expected = targetIds("created_at");
+        ExecutionContext executionContext = new ExecutionContext();
+
+        KeysetItemReader<UploadFile> first = tempFilesReader(new AtomicInteger());
+        first.open(executionContext);
+        for (int i = 0; i < CHUNK_SIZE * 2; i++) {
+            first.read();
+        }
+        first.update(executionContext);
+        first.close();
+
+        // when
+        KeysetItemReader<UploadFile> restarted = tempFilesReader(new AtomicInteger());
+        restarted.open(executionContext);
+        UploadFile next = restarted.read();
+
+        // then
+        assertThat(executionContext.getLong("tempFilesReader.last.id")).isEqualTo(expected.get(CHUNK_SIZE * 2 - 1));
+        assertThat(next.getId()).isEqualTo(expected.get(CHUNK_SIZE * 2));
+    }
+
+    @Test
+    @DisplayName("페이지 번호로 읽으면 같은 상황에서 행을 건너뜀")
+    void pageNumberPagingSkipsRows() {
+        // given
+        List<Long> expected = targetIds("created_at");
+        List<Long> read = new ArrayList<>();
+
+        // when
+        for (int page = 0; ; page++) {
+            List<UploadFile> chunk = uploadFileRepository.findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    UploadStatus.TEMP, CUTOFF, 0L, PageRequest.of(page, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = chunk.stream().map(UploadFile::getId).toList();
+            read.addAll(ids);
+            uploadFileRepository.markAllDeleted(ids, UploadStatus.DELETED, CUTOFF);
+            entityManager.clear();
+        }
+
+        // then
+        assertThat(read).hasSizeLessThan(expected.size());
+    }
+
+    private KeysetItemReader<UploadFile> tempFilesReader(AtomicInteger queries) {
+        return new KeysetItemReader<>("tempFilesReader", CHUNK_SIZE, UploadFile::getId, (lastId, pageSize) -> {
+            queries.incrementAndGet();
+            return uploadFileRepository.findAllByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    UploadStatus.TEMP, CUTOFF, lastId, PageRequest.of(0, pageSize));
+        });
+    }
+
+    // 청크 단위로 읽고 writer를 호출하는 배치 스텝 흐름
+    private List<Long> readAll(KeysetItemReader<UploadFile> reader, Consumer<List<UploadFile>> writer) {
+        List<Long> read = new ArrayList<>();
+        reader.open(new ExecutionContext());
+
+        List<UploadFile> chunk;
+        do {
+            chunk = new ArrayList<>(CHUNK_SIZE);
+            UploadFile item;
+            while (chunk.size() < CHUNK_SIZE && (item = reader.read()) != null) {
+                chunk.add(item);
+            }
+
+            if (!chunk.isEmpty()) {
+                chunk.forEach(file -> read.add(file.getId()));
+                writer.accept(chunk);
+                entityManager.clear();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+
+        reader.close();
+        return read;
+    }
+
+    private List<Long> targetIds(String cutoffColumn) {
+        String status = cutoffColumn.equals("created_at") ? UploadStatus.TEMP.name() : UploadStatus.DELETED.name();
+        return jdbcTemplate.queryForList(
+                "select id from upload_file where status = ? and " + cutoffColumn + " < ? order by id",
+                Long.class, status, CUTOFF);
+    }
+
+    // TEMP 60%, ATTACHED 20%, DELETED 20%, 생성 시각은 2초 간격이고 앞쪽 80%가 기준 시각 이전
+    static void insertUploadFiles(JdbcTemplate jdbcTemplate, int count) {
+        LocalDateTime firstCreatedAt = CUTOFF.minusSeconds(count * 8L / 5);
+
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int bucket = i % 10;
+            UploadStatus status = bucket < 6 ? UploadStatus.TEMP
+                    : bucket < 8 ? UploadStatus.ATTACHED
+                    : UploadStatus.DELETED;
+            LocalDateTime createdAt = firstCreatedAt.plusSeconds(i * 2L);
+            LocalDateTime deletedAt = status == UploadStatus.DELETED
+                    ? CUTOFF.plusHours(i % 3 == 0 ? 1 : -1)
+                    : null;
+
+            rows.add(new Object[]{
+                    1L, status == UploadStatus.ATTACHED ? 1L : null, "IMAGE",
+                    "users/1/images/" + i + ".png", "https://minio.example.com/users/1/images/" + i + ".png",
+                    status.name(), deletedAt, createdAt, createdAt
+            });
+        }
+
+        jdbcTemplate.batchUpdate("""
+                insert into upload_file (user_id, post_id, type, object_name, url, status, deleted_at, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+}
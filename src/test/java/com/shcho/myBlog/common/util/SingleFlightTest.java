@@ -0,0 +1,134 @@
+package com.shcho.myBlog.common.util;
+
+import com.shcho.myBlog.libs.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static com.shcho.myBlog.libs.exception.ErrorCode.POST_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SingleFlight Unit Test")
+class SingleFlightTest {
+
+    private static final int CONCURRENT_REQUESTS = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+    @Test
+    @DisplayName("동시 요청 200건이 같은 키로 들어오면 로더는 한 번만 실행되고 결과를 공유한다")
+    void concurrentIdenticalCallsCollapseIntoOneLoad() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+        try {
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("post.detail", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "post";
+                }, "user1", 1L)));
+            }
+
+            // 나머지 요청이 모두 대기에 들어간 뒤 로더를 끝냄
+            waitUntil(() -> count("shared") == CONCURRENT_REQUESTS - 1);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertEquals("post", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1.0, count("leader"));
+            assertEquals(CONCURRENT_REQUESTS - 1, count("shared"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로더 예외는 대기 중인 요청에도 같은 예외로 전파된다")
+    void waitingCallsReceiveLoaderException() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("post.detail", () -> {
+                await(release);
+                throw new CustomException(POST_NOT_FOUND);
+            }, "user1", 1L));
+            waitUntil(() -> count("leader") == 1);
+
+            // when
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("post.detail", () -> {
+                throw new IllegalStateException("must not run");
+            }, "user1", 1L));
+            waitUntil(() -> count("shared") == 1);
+            release.countDown();
+
+            // then
+            for (Future<Object> call : List.of(leader, follower)) {
+                Exception exception = assertThrows(Exception.class, () -> call.get(5, TimeUnit.SECONDS));
+                CustomException cause = assertInstanceOf(CustomException.class, exception.getCause());
+                assertEquals(POST_NOT_FOUND, cause.getErrorCode());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("끝난 실행의 결과는 보관하지 않고 키가 다르면 합치지 않는다")
+    void completedOrDifferentKeysLoadAgain() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute("post.detail", loads::incrementAndGet, "user1", 1L);
+        singleFlight.execute("post.detail", loads::incrementAndGet, "user1", 1L);
+        singleFlight.execute("post.detail", loads::incrementAndGet, "user1", 2L);
+
+        // then
+        assertEquals(3, loads.get());
+        assertEquals(0.0, count("shared"));
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find("singleflight.calls").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.shcho.myBlog.post.service;
+
+import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.category.entity.Category;
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostCounterRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCounterService Unit Test")
+class PostCounterServiceTest {
+
+    @Mock
+    private PostCounterRepository postCounterRepository;
+    @InjectMocks
+    private PostCounterService postCounterService;
+
+    @Test
+    @DisplayName("공개 게시글 생성 시 전체/공개 수 1 증가")
+    void increasePublicPost() {
+        // given
+        Post post = buildPost(10L, true);
+
+        // when
+        postCounterService.increase(post);
+
+        // then
+        verify(postCounterRepository, times(1)).addCounts(1L, 10L, 1, 1);
+    }
+
+    @Test
+    @DisplayName("비공개 게시글 삭제 시 전체 수만 1 감소")
+    void decreasePrivatePost() {
+        // given
+        Post post = buildPost(10L, false);
+
+        // when
+        postCounterService.decrease(post);
+
+        // then
+        verify(postCounterRepository, times(1)).addCounts(1L, 10L, -1, 0);
+    }
+
+    @Test
+    @DisplayName("공개 -> 비공개 전환 시 공개 수만 1 감소, 값이 같으면 변경 없음")
+    void changePublic() {
+        // given
+        Post post = buildPost(10L, false);
+
+        // when
+        postCounterService.changePublic(post, true);
+        postCounterService.changePublic(post, false);
+
+        // then
+        verify(postCounterRepository, times(1)).addCounts(1L, 10L, 0, -1);
+        verifyNoMoreInteractions(postCounterRepository);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 시 이전 카테고리는 감소, 새 카테고리는 증가")
+    void changeCategory() {
+        // given
+        Post post = buildPost(20L, true);
+
+        // when
+        postCounterService.changeCategory(post, 10L);
+
+        // then
+        verify(postCounterRepository, times(1)).addCounts(1L, 10L, -1, -1);
+        verify(postCounterRepository, times(1)).addCounts(1L, 20L, 1, 1);
+    }
+
+    private Post buildPost(Long categoryId, boolean isPublic) {
+        Blog blog = Blog.builder().id(1L).build();
+        Category category = Category.builder().id(categoryId).build();
+
+        return Post.builder().id(100L).blog(blog).category(category).isPublic(isPublic).build();
+    }
+}
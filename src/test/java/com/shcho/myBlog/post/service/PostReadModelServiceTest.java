@@ -0,0 +1,62 @@
+package com.shcho.myBlog.post.service;
+
+import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.category.entity.Category;
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostReadModelRepository;
+import com.shcho.myBlog.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostReadModelService Unit Test")
+class PostReadModelServiceTest {
+
+    @Mock
+    private PostReadModelRepository postReadModelRepository;
+    @InjectMocks
+    private PostReadModelService postReadModelService;
+
+    @Test
+    @DisplayName("게시글 저장 시 닉네임, 카테고리 이름까지 비정규화해서 upsert")
+    void saveDenormalizesPost() {
+        // given
+        User user = User.builder().userId(7L).nickname("user1").build();
+        Blog blog = Blog.builder().id(1L).user(user).build();
+        Category category = Category.builder().id(10L).name("Java").build();
+        Post post = Post.builder()
+                .id(100L)
+                .blog(blog)
+                .category(category)
+                .title("title")
+                .summary("summary")
+                .thumbnailUrl("https://example.com/a.png")
+                .readingMinutes(3)
+                .isPublic(true)
+                .build();
+
+        // when
+        postReadModelService.save(post);
+
+        // then
+        verify(postReadModelRepository, times(1)).upsert(
+                100L, 1L, 10L, "user1", "Java", "title",
+                "summary", "https://example.com/a.png", 3, true, null);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 해당 행 삭제")
+    void remove() {
+        // when
+        postReadModelService.remove(100L);
+
+        // then
+        verify(postReadModelRepository, times(1)).deleteByPostId(100L);
+    }
+}
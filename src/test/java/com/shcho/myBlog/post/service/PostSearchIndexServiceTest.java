@@ -0,0 +1,79 @@
+package com.shcho.myBlog.post.service;
+
+import com.shcho.myBlog.blog.entity.Blog;
+import com.shcho.myBlog.post.entity.Post;
+import com.shcho.myBlog.post.repository.PostSearchTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchIndexService Unit Test")
+class PostSearchIndexServiceTest {
+
+    @Mock
+    private PostSearchTokenRepository postSearchTokenRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @InjectMocks
+    private PostSearchIndexService postSearchIndexService;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rowsCaptor;
+
+    @Test
+    @DisplayName("제목 수정 시 본문 없이 제목 토큰의 가중치만 바꿈")
+    void reindexTitleChangesOnlyTitleWeights() {
+        // given
+        Blog blog = Blog.builder().id(1L).build();
+        Post post = Post.builder().id(100L).blog(blog).title("ab").build();
+
+        // 이전 제목 "ac"의 토큰과 두 제목에 공통인 "a"가 이미 색인되어 있음
+        when(postSearchTokenRepository.findTokensByPostId(eq(100L), anyCollection()))
+                .thenReturn(List.of("c", "ac"));
+
+        // when
+        postSearchIndexService.reindexTitle(post, "ac");
+
+        // then
+        verify(jdbcTemplate).batchUpdate(startsWith("update post_search_token"), rowsCaptor.capture());
+        assertEquals(Map.of("c", -5, "ac", -5), weights(rowsCaptor.getValue(), 2, 0));
+        verify(jdbcTemplate).update(startsWith("delete from post_search_token"), eq(100L));
+
+        verify(jdbcTemplate).batchUpdate(startsWith("insert into post_search_token"), rowsCaptor.capture());
+        assertEquals(Map.of("b", 5, "ab", 5), weights(rowsCaptor.getValue(), 2, 3));
+    }
+
+    @Test
+    @DisplayName("제목 토큰이 그대로면 색인을 건드리지 않음")
+    void reindexTitleSkipsWhenTokensUnchanged() {
+        // given
+        Post post = Post.builder().id(100L).blog(Blog.builder().id(1L).build()).title("Java").build();
+
+        // when
+        postSearchIndexService.reindexTitle(post, "java");
+
+        // then
+        verifyNoInteractions(postSearchTokenRepository, jdbcTemplate);
+    }
+
+    private static Map<String, Integer> weights(List<Object[]> rows, int tokenIndex, int weightIndex) {
+        return rows.stream()
+                .collect(Collectors.toMap(row -> (String) row[tokenIndex], row -> (Integer) row[weightIndex]));
+    }
+}
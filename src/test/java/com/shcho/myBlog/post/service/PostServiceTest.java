@@ -2,16 +2,23 @@ package com.shcho.myBlog.post.service;
 
 import com.shcho.myBlog.blog.entity.Blog;
 import com.shcho.myBlog.blog.repository.BlogRepository;
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.blog.service.BlogIdResolver;
+import com.shcho.myBlog.category.cache.CategoryTreeCache;
 import com.shcho.myBlog.category.entity.Category;
 import com.shcho.myBlog.category.repository.CategoryRepository;
+import com.shcho.myBlog.common.dto.CursorResponseDto;
 import com.shcho.myBlog.common.entity.UploadFile;
-import com.shcho.myBlog.common.service.MinioService;
 import com.shcho.myBlog.common.service.UploadFileService;
+import com.shcho.myBlog.common.util.SingleFlight;
 import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.cache.MissingPostCache;
+import com.shcho.myBlog.post.cache.PostQueryCache;
 import com.shcho.myBlog.post.dto.*;
 import com.shcho.myBlog.post.entity.Post;
 import com.shcho.myBlog.post.repository.PostQueryRepository;
 import com.shcho.myBlog.post.repository.PostRepository;
+import com.shcho.myBlog.post.util.PostContentRenderer;
 import com.shcho.myBlog.user.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,16 +26,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 import static com.shcho.myBlog.libs.exception.ErrorCode.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +54,7 @@ import static org.mockito.Mockito.*;
 class PostServiceTest {
 
     private static final String DEFAULT_CATEGORY_NAME = "미분류";
+    private static final Long BLOG_ID = 1L;
 
     @Mock
     private PostRepository postRepository;
@@ -52,7 +67,24 @@ class PostServiceTest {
     @Mock
     private UploadFileService uploadFileService;
     @Mock
-    private MinioService minioService;
+    private PostSearchIndexService postSearchIndexService;
+    @Mock
+    private PostCounterService postCounterService;
+    @Mock
+    private PostReadModelService postReadModelService;
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+    @Mock
+    private BlogContentVersionService blogContentVersionService;
+    @Spy
+    private PostQueryCache postQueryCache =
+            new PostQueryCache(new SimpleMeterRegistry(), 1_000_000L, Duration.ofMinutes(1));
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+    @Mock
+    private BlogIdResolver blogIdResolver;
+    @Spy
+    private MissingPostCache missingPostCache = new MissingPostCache(new SimpleMeterRegistry());
     @InjectMocks
     private PostService postService;
 
@@ -92,6 +124,7 @@ class PostServiceTest {
         assertEquals(rawTitle.trim(), newPost.getTitle());
         assertEquals(requestDto.content(), newPost.getContent());
         assertEquals(requestDto.categoryId(), newPost.getCategory().getId());
+        assertTrue(newPost.isRenderedWith(PostContentRenderer.VERSION));
 
         ArgumentCaptor<Post> captor = ArgumentCaptor.forClass(Post.class);
         verify(postRepository, times(1)).save(captor.capture());
@@ -103,7 +136,11 @@ class PostServiceTest {
         assertEquals(blog.getId(), saved.getBlog().getId());
 
         verify(uploadFileService, times(1))
-                .attachFilesToPost(eq(userId), eq(99L), eq("new Post Content"));
+                .attachFilesToPost(eq(userId), eq(99L), eq(Set.of()));
+        verify(postSearchIndexService, times(1)).index(saved);
+        verify(postCounterService, times(1)).increase(saved);
+        verify(postReadModelService, times(1)).save(saved);
+        verify(blogContentVersionService, times(1)).bump(blog.getId());
     }
 
     @Test
@@ -250,7 +287,8 @@ class PostServiceTest {
         Page<PostThumbnailResponseDto> dtoPages =
                 new PageImpl<>(List.of(dto1, dto2), pageable, 2);
 
-        when(postQueryRepository.findPostThumbnailsByNickname(nickname, pageable))
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogId(BLOG_ID, pageable))
                 .thenReturn(dtoPages);
 
         // when
@@ -264,10 +302,99 @@ class PostServiceTest {
         assertEquals(dto1.title(), result.getContent().get(0).title());
 
         verify(postQueryRepository, times(1))
-                .findPostThumbnailsByNickname(nickname, pageable);
+                .findPostThumbnailsByBlogId(BLOG_ID, pageable);
+        verifyNoMoreInteractions(postQueryRepository);
+    }
+
+    @Test
+    @DisplayName("닉네임으로 게시글 전체 조회 - 같은 조회는 캐시에서 응답")
+    void getPostsByUserNicknameUsesQueryCache() {
+        // given
+        String nickname = "user1";
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<PostThumbnailResponseDto> dtoPages =
+                new PageImpl<>(List.of(buildPostThumbnailResponseDto(1L, "t1")), pageable, 1);
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogId(BLOG_ID, pageable))
+                .thenReturn(dtoPages);
+
+        // when
+        Page<PostThumbnailResponseDto> first = postService.getPostsByUserNickname(nickname, pageable);
+        Page<PostThumbnailResponseDto> second = postService.getPostsByUserNickname(nickname, pageable);
+
+        // then
+        assertSame(first, second);
+        verify(postQueryRepository, times(1))
+                .findPostThumbnailsByBlogId(BLOG_ID, pageable);
+    }
+
+    @Test
+    @DisplayName("닉네임으로 게시글 전체 조회 - 블로그 무효화 이후에는 다시 조회")
+    void getPostsByUserNicknameReloadsAfterInvalidate() {
+        // given
+        String nickname = "user1";
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<PostThumbnailResponseDto> dtoPages =
+                new PageImpl<>(List.of(buildPostThumbnailResponseDto(1L, "t1")), pageable, 1);
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogId(BLOG_ID, pageable))
+                .thenReturn(dtoPages);
+
+        // when
+        postService.getPostsByUserNickname(nickname, pageable);
+        postQueryCache.invalidate(BLOG_ID);
+        postService.getPostsByUserNickname(nickname, pageable);
+
+        // then
+        verify(postQueryRepository, times(2))
+                .findPostThumbnailsByBlogId(BLOG_ID, pageable);
+    }
+
+    @Test
+    @DisplayName("닉네임으로 게시글 slice 조회 성공 - count 쿼리 없는 slice 조회 사용")
+    void getPostsByUserNicknameSliceSuccess() {
+        // given
+        String nickname = "user1";
+        Pageable pageable = PageRequest.of(0, 2);
+
+        PostThumbnailResponseDto dto1 = buildPostThumbnailResponseDto(1L, "t1");
+        PostThumbnailResponseDto dto2 = buildPostThumbnailResponseDto(2L, "t2");
+
+        Slice<PostThumbnailResponseDto> dtoSlice =
+                new SliceImpl<>(List.of(dto1, dto2), pageable, true);
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogIdSlice(BLOG_ID, pageable))
+                .thenReturn(dtoSlice);
+
+        // when
+        Slice<PostThumbnailResponseDto> result = postService.getPostsByUserNicknameSlice(nickname, pageable);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.hasNext());
+
+        verify(postQueryRepository, times(1))
+                .findPostThumbnailsByBlogIdSlice(BLOG_ID, pageable);
         verifyNoMoreInteractions(postQueryRepository);
     }
 
+    @Test
+    @DisplayName("닉네임과 키워드로 게시글 slice 조회 실패 - 키워드 공백")
+    void getPostsByUserNicknameAndKeywordSliceFailedBlankKeyword() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.getPostsByUserNicknameAndKeywordSlice("user1", "   ", pageable));
+
+        assertEquals(INVALID_KEYWORD, exception.getErrorCode());
+        verifyNoInteractions(postQueryRepository);
+    }
+
     @Test
     @DisplayName("닉네임과 키워드로 게시글 검색 성공")
     void getPostsByUserNicknameAndKeywordSuccess() {
@@ -283,7 +410,8 @@ class PostServiceTest {
         Page<PostThumbnailResponseDto> dtoPages =
                 new PageImpl<>(List.of(dto1, dto2, dto3, dto4), pageable, 4);
 
-        when(postQueryRepository.findPostThumbnailsByNicknameAndKeyword(nickname, keyword, pageable))
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogIdAndKeyword(BLOG_ID, keyword, pageable))
                 .thenReturn(dtoPages);
 
         // when
@@ -297,7 +425,7 @@ class PostServiceTest {
         assertEquals(1L, result.getContent().get(0).postId());
 
         verify(postQueryRepository, times(1))
-                .findPostThumbnailsByNicknameAndKeyword(nickname, keyword, pageable);
+                .findPostThumbnailsByBlogIdAndKeyword(BLOG_ID, keyword, pageable);
         verifyNoMoreInteractions(postQueryRepository);
     }
 
@@ -333,24 +461,74 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("닉네임과 게시글 Id로 게시글 조회")
+    @DisplayName("닉네임과 키워드로 게시글 조회 실패 - 특수문자로만 이루어진 키워드")
+    void getPostsByUserNicknameAndKeywordFailedNoSearchableToken() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.getPostsByUserNicknameAndKeyword("user1", "!@#", pageable));
+
+        assertEquals(INVALID_KEYWORD, exception.getErrorCode());
+        verifyNoInteractions(postQueryRepository);
+    }
+
+    @Test
+    @DisplayName("닉네임과 게시글 Id로 게시글 조회 - 같은 카테고리의 이전/다음 게시글 포함")
     void getPostByNicknameAndPostIdSuccess() {
         // given
         String nickname = "user1";
         Long postId = 1L;
-        Post post = Post.builder().id(postId).build();
+        Category category = Category.builder().id(1L).build();
+        Post post = Post.builder().id(postId).category(category).title("title").content("content").build();
+        PostNavigationDto navigation = new PostNavigationDto(new AdjacentPostDto(0L, "older"), null);
 
-        when(postQueryRepository.findPostByNicknameAndPostId(nickname, postId))
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostByBlogIdAndPostId(BLOG_ID, postId))
                 .thenReturn(Optional.of(post));
+        when(postQueryRepository.findAdjacentPosts(BLOG_ID, category.getId(), new PostCursor(null, postId)))
+                .thenReturn(navigation);
 
         // when
-        Post result = postService.getPostByNicknameAndPostId(nickname, postId);
+        PostDetailResponseDto result = postService.getPostByNicknameAndPostId(nickname, postId);
+        PostDetailResponseDto cached = postService.getPostByNicknameAndPostId(nickname, postId);
 
         // then
         assertNotNull(result);
-        assertEquals(postId, result.getId());
+        assertEquals(postId, result.postId());
+        assertEquals("content", result.content());
+        assertEquals("<p>content</p>\n", result.contentHtml());
+        assertEquals(new AdjacentPostDto(0L, "older"), result.previousPost());
+        assertNull(result.nextPost());
+        assertSame(result, cached);
+        verify(postQueryRepository, times(1))
+                .findPostByBlogIdAndPostId(BLOG_ID, postId);
         verify(postQueryRepository, times(1))
-                .findPostByNicknameAndPostId(nickname, postId);
+                .findAdjacentPosts(BLOG_ID, category.getId(), new PostCursor(null, postId));
+    }
+
+    @Test
+    @DisplayName("닉네임과 게시글 Id로 게시글 조회 - post_content로 옮기기 전 게시글은 기존 본문 컬럼으로 응답")
+    void getPostByNicknameAndPostIdLegacyContent() {
+        // given
+        String nickname = "user1";
+        Long postId = 1L;
+        Category category = Category.builder().id(1L).build();
+        Post post = Post.builder().id(postId).category(category).title("title").legacyContent("legacy").build();
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostByBlogIdAndPostId(BLOG_ID, postId))
+                .thenReturn(Optional.of(post));
+        when(postQueryRepository.findAdjacentPosts(BLOG_ID, category.getId(), new PostCursor(null, postId)))
+                .thenReturn(new PostNavigationDto(null, null));
+
+        // when
+        PostDetailResponseDto result = postService.getPostByNicknameAndPostId(nickname, postId);
+
+        // then
+        assertEquals("legacy", result.content());
+        assertEquals("<p>legacy</p>\n", result.contentHtml());
     }
 
     @Test
@@ -360,7 +538,8 @@ class PostServiceTest {
         String nickname = "user1";
         Long postId = 1L;
 
-        when(postQueryRepository.findPostByNicknameAndPostId(nickname, postId))
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostByBlogIdAndPostId(BLOG_ID, postId))
                 .thenReturn(Optional.empty());
 
         // when & then
@@ -371,6 +550,117 @@ class PostServiceTest {
         assertEquals(POST_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("닉네임과 게시글 Id로 게시글 조회 실패 - 없는 게시글 반복 요청은 negative 캐시에서 응답")
+    void getPostByNicknameAndPostIdMissingPostCached() {
+        // given
+        String nickname = "user1";
+        Long postId = 999L;
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostByBlogIdAndPostId(BLOG_ID, postId))
+                .thenReturn(Optional.empty());
+
+        // when
+        assertThrows(CustomException.class, () -> postService.getPostByNicknameAndPostId(nickname, postId));
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.getPostByNicknameAndPostId(nickname, postId));
+
+        // then
+        assertEquals(POST_NOT_FOUND, exception.getErrorCode());
+        verify(postQueryRepository, times(1)).findPostByBlogIdAndPostId(BLOG_ID, postId);
+    }
+
+    @Test
+    @DisplayName("닉네임과 게시글 Id로 게시글 조회 - 콘텐츠 변경 전에 시작된 조회의 negative 기록은 변경 후 조회를 막지 않음")
+    void getPostByNicknameAndPostIdMissingMarkedAfterVersionBump() {
+        // given
+        String nickname = "user1";
+        Long postId = 1L;
+        Category category = Category.builder().id(1L).build();
+        Post post = Post.builder().id(postId).category(category).title("title").content("content").build();
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        // 첫 조회가 DB를 읽은 직후 게시글 생성이 커밋되어 세대가 올라감
+        when(postQueryRepository.findPostByBlogIdAndPostId(BLOG_ID, postId))
+                .thenAnswer(invocation -> {
+                    postQueryCache.invalidate(BLOG_ID);
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.of(post));
+        when(postQueryRepository.findAdjacentPosts(BLOG_ID, category.getId(), new PostCursor(null, postId)))
+                .thenReturn(new PostNavigationDto(null, null));
+
+        // when
+        assertThrows(CustomException.class, () -> postService.getPostByNicknameAndPostId(nickname, postId));
+        PostDetailResponseDto result = postService.getPostByNicknameAndPostId(nickname, postId);
+
+        // then
+        assertEquals(postId, result.postId());
+        assertFalse(missingPostCache.isMissing(BLOG_ID, postQueryCache.generation(BLOG_ID), postId));
+        verify(postQueryRepository, times(2)).findPostByBlogIdAndPostId(BLOG_ID, postId);
+    }
+
+    @Test
+    @DisplayName("게시글 여러 건 조회 - 요청 순서대로 응답하고 없는 id는 따로 알려줌")
+    void getPostsByNicknameAndPostIdsSuccess() {
+        // given
+        String nickname = "user1";
+        Category category = Category.builder().id(1L).build();
+        Post post1 = Post.builder().id(1L).category(category).title("first").content("content1").build();
+        Post post3 = Post.builder().id(3L).category(category).title("third").content("content3").build();
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostsByBlogIdAndPostIds(BLOG_ID, List.of(3L, 2L, 1L)))
+                .thenReturn(List.of(post1, post3));
+
+        // when
+        PostBatchResponseDto result = postService.getPostsByNicknameAndPostIds(nickname, List.of(3L, 2L, 1L, 3L));
+
+        // then
+        assertEquals(List.of(3L, 1L), result.posts().stream().map(PostResponseDto::postId).toList());
+        assertEquals(List.of(2L), result.missingPostIds());
+        assertTrue(missingPostCache.isMissing(BLOG_ID, postQueryCache.generation(BLOG_ID), 2L));
+        verify(postQueryRepository, times(1)).findPostsByBlogIdAndPostIds(BLOG_ID, List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("게시글 여러 건 조회 실패 - 요청 id가 없거나 50개를 초과")
+    void getPostsByNicknameAndPostIdsFailedInvalidIds() {
+        // given
+        List<Long> tooMany = LongStream.rangeClosed(1, 51).boxed().toList();
+
+        // when & then
+        CustomException empty = assertThrows(CustomException.class,
+                () -> postService.getPostsByNicknameAndPostIds("user1", List.of()));
+        CustomException exceeded = assertThrows(CustomException.class,
+                () -> postService.getPostsByNicknameAndPostIds("user1", tooMany));
+
+        assertEquals(INVALID_POST_IDS, empty.getErrorCode());
+        assertEquals(INVALID_POST_IDS, exceeded.getErrorCode());
+        verifyNoInteractions(postQueryRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 닉네임 - 게시글 조회 없이 빈 목록, 상세는 POST_NOT_FOUND")
+    void getPostsByUnknownNicknameSkipsQuery() {
+        // given
+        String nickname = "unknown";
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.empty());
+
+        // when
+        Page<PostThumbnailResponseDto> result = postService.getPostsByUserNickname(nickname, pageable);
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.getPostByNicknameAndPostId(nickname, 1L));
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(POST_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(postQueryRepository);
+    }
+
     @Test
     @DisplayName("닉네임과 카테고리 Id로 게시글 전체 조회 성공")
     void getPostsByUserNicknameAndCategoryIdSuccess() {
@@ -387,7 +677,8 @@ class PostServiceTest {
         Page<PostThumbnailResponseDto> dtoPages =
                 new PageImpl<>(List.of(dto1, dto2, dto3, dto4));
 
-        when(postQueryRepository.findPostThumbnailsByNicknameAndCategoryId(nickname, categoryId, pageable))
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogIdAndCategoryId(BLOG_ID, categoryId, pageable))
                 .thenReturn(dtoPages);
 
         // when
@@ -401,7 +692,7 @@ class PostServiceTest {
         assertEquals(1L, result.getContent().get(0).postId());
 
         verify(postQueryRepository, times(1))
-                .findPostThumbnailsByNicknameAndCategoryId(nickname, categoryId, pageable);
+                .findPostThumbnailsByBlogIdAndCategoryId(BLOG_ID, categoryId, pageable);
     }
 
     @Test
@@ -473,7 +764,7 @@ class PostServiceTest {
         when(blogRepository.findBlogByUserIdFetchUser(userId))
                 .thenReturn(Optional.of(blog));
 
-        when(postQueryRepository.getMyPostByBlog(blog.getId(), postId))
+        when(postQueryRepository.getMyPostWithContentByBlog(blog.getId(), postId))
                 .thenReturn(Optional.of(post));
 
         // when
@@ -485,7 +776,7 @@ class PostServiceTest {
         verify(blogRepository, times(1))
                 .findBlogByUserIdFetchUser(userId);
         verify(postQueryRepository, times(1))
-                .getMyPostByBlog(blog.getId(), postId);
+                .getMyPostWithContentByBlog(blog.getId(), postId);
     }
 
     @Test
@@ -517,6 +808,10 @@ class PostServiceTest {
                 .findBlogByUserIdFetchUser(userId);
         verify(postQueryRepository, times(1))
                 .getMyPostByBlog(blog.getId(), postId);
+        verify(postQueryRepository, never()).getMyPostWithContentByBlog(anyLong(), anyLong());
+        verify(postSearchIndexService, times(1)).reindexTitle(post, "old title");
+        verify(postSearchIndexService, never()).index(any());
+        verify(postReadModelService, times(1)).save(post);
     }
 
     @Test
@@ -531,10 +826,8 @@ class PostServiceTest {
 
         when(blogRepository.findBlogByUserIdFetchUser(userId))
                 .thenReturn(Optional.of(blog));
-        when(postQueryRepository.getMyPostByBlog(blog.getId(), postId))
+        when(postQueryRepository.getMyPostWithContentByBlog(blog.getId(), postId))
                 .thenReturn(Optional.of(post));
-        when(uploadFileService.extractFids("new content"))
-                .thenReturn(java.util.Collections.emptySet());
         when(uploadFileService.getAttachedFilesByPostId(postId))
                 .thenReturn(java.util.Collections.emptyList());
 
@@ -548,10 +841,11 @@ class PostServiceTest {
         assertNotNull(updatePost);
         assertEquals(postId, updatePost.getId());
         assertEquals(requestDto.content(), updatePost.getContent());
+        assertEquals("<p>new content</p>\n", updatePost.getRenderedHtml());
         verify(blogRepository, times(1))
                 .findBlogByUserIdFetchUser(userId);
         verify(postQueryRepository, times(1))
-                .getMyPostByBlog(blog.getId(), postId);
+                .getMyPostWithContentByBlog(blog.getId(), postId);
     }
 
     @Test
@@ -594,6 +888,9 @@ class PostServiceTest {
                 .findById(newCategory.getId());
         verify(categoryRepository, times(1))
                 .existsByParent_Id(newCategory.getId());
+        verify(postCounterService, times(1))
+                .changeCategory(post, oldCategory.getId());
+        verify(postReadModelService, times(1)).save(post);
     }
 
     @Test
@@ -625,6 +922,11 @@ class PostServiceTest {
                 .findBlogByUserIdFetchUser(userId);
         verify(postQueryRepository, times(1))
                 .getMyPostByBlog(blog.getId(), postId);
+        verify(postCounterService, times(1))
+                .changePublic(post, true);
+        verify(postReadModelService, times(1)).save(post);
+        verify(categoryTreeCache, times(1))
+                .evict(blog.getId());
     }
 
     @Test
@@ -644,7 +946,7 @@ class PostServiceTest {
         when(uploadFileService.getAttachedFilesByPostId(postId))
                 .thenReturn(java.util.Collections.emptyList());
         doNothing().when(uploadFileService)
-                .markDeletedAndSaveAll(anyList());
+                .markAllDeleted(anyList());
 
         // when
         Long deletedPostId = postService.deletePost(userId, postId);
@@ -656,12 +958,15 @@ class PostServiceTest {
                 .findBlogByUserIdFetchUser(userId);
         verify(postQueryRepository, times(1))
                 .getMyPostByBlog(blog.getId(), postId);
+        verify(postCounterService, times(1))
+                .decrease(post);
+        verify(postReadModelService, times(1)).remove(postId);
         verify(postRepository, times(1))
                 .delete(post);
     }
 
     @Test
-    @DisplayName("Content 수정 시 : 기존 첨부되어있던 파일중 본문에서 제거된 파일은 MinIO 삭제 + DELETED 처리")
+    @DisplayName("Content 수정 시 : 기존 첨부되어있던 파일중 본문에서 제거된 파일은 DELETED 처리, 새 파일만 첨부")
     void updateContentDeletesRemovedFiles() {
         // given
         Long userId = 1L;
@@ -671,7 +976,7 @@ class PostServiceTest {
         Blog blog = Blog.builder().id(1L).user(user).build();
         Post post = Post.builder().id(1L).content("old content").blog(blog).build();
 
-        String newContent = "new content?fid=2";
+        String newContent = "new content?fid=2 ![img](https://example.com/c.jpg?fid=3)";
 
         UploadFile file1 = UploadFile.builder().id(1L).userId(userId).postId(postId)
                 .objectName("users/1/images/2026/02/a.jpg").build();
@@ -680,10 +985,8 @@ class PostServiceTest {
 
         when(blogRepository.findBlogByUserIdFetchUser(userId))
                 .thenReturn(Optional.of(blog));
-        when(postQueryRepository.getMyPostByBlog(blog.getId(), postId))
+        when(postQueryRepository.getMyPostWithContentByBlog(blog.getId(), postId))
                 .thenReturn(Optional.of(post));
-        when(uploadFileService.extractFids(newContent))
-                .thenReturn(Set.of(2L));
         when(uploadFileService.getAttachedFilesByPostId(postId))
                 .thenReturn(List.of(file1, file2));
 
@@ -695,24 +998,19 @@ class PostServiceTest {
         // then
         assertEquals(newContent, updatedPost.getContent());
 
-        verify(minioService, times(1))
-                .deleteObject(file1.getObjectName());
-        verify(minioService, never())
-                .deleteObject(file2.getObjectName());
-
         ArgumentCaptor<List<UploadFile>> captor = ArgumentCaptor.forClass(List.class);
         verify(uploadFileService, times(1))
-                .markDeletedAndSaveAll(captor.capture());
+                .markAllDeleted(captor.capture());
         List<UploadFile> deletedList = captor.getValue();
         assertEquals(1, deletedList.size());
         assertEquals(file1.getId(), deletedList.get(0).getId());
 
         verify(uploadFileService, times(1))
-                .attachFilesToPost(userId, postId, newContent);
+                .attachFilesToPost(userId, postId, Set.of(3L));
     }
 
     @Test
-    @DisplayName("게시글 삭제 시 - ATTACHED 파일 전부 MinIO 삭제 + DELETED 처리")
+    @DisplayName("게시글 삭제 시 - ATTACHED 파일 전부 DELETED 처리")
     void deletePostDeletesAllAttachedFiles() {
         // given
         Long userId = 1L;
@@ -740,42 +1038,30 @@ class PostServiceTest {
         // then
         assertEquals(postId, deletedPostId);
 
-        verify(minioService, times(1)).deleteObject("users/1/images/2026/02/a.jpg");
-        verify(minioService, times(1)).deleteObject("users/1/images/2026/02/b.jpg");
-
         ArgumentCaptor<List<UploadFile>> captor = ArgumentCaptor.forClass(List.class);
-        verify(uploadFileService, times(1)).markDeletedAndSaveAll(captor.capture());
+        verify(uploadFileService, times(1)).markAllDeleted(captor.capture());
         assertEquals(2, captor.getValue().size());
 
         verify(postRepository, times(1)).delete(post);
+        verify(postSearchIndexService, times(1)).remove(postId);
     }
 
     @Test
-    @DisplayName("닉네임 기준 최근 게시글 요약 조회 성공")
+    @DisplayName("닉네임 기준 최근 게시글 요약 조회 성공 - 저장된 요약/썸네일/읽기 시간을 그대로 반환")
     void getRecentPostThumbnailsByNicknameSuccess() {
         // given
         String nickname = "user1";
         int limit = 6;
 
-        String rawContent = """
-            <p>  안녕   </p>
-            ![img1](https://example.com/a.png)
-            [link](https://example.com)
-            # 제목
-            ```java
-            System.out.println("hi");
-            ```
-            본문   내용   입니다.   `inlineCode`
-            """;
-
         PostRecentThumbnailQueryDto q1 = new PostRecentThumbnailQueryDto(
-                1L, "t1", rawContent, "cat1", null
+                1L, "t1", "안녕 본문 내용 입니다.", "https://example.com/a.png", 2, "cat1", null
         );
         PostRecentThumbnailQueryDto q2 = new PostRecentThumbnailQueryDto(
-                2L, "t2", "짧은 내용", "cat2", null
+                2L, "t2", "짧은 내용", null, 1, "cat2", null
         );
 
-        when(postQueryRepository.findRecentPostsByNickname(nickname, limit))
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findRecentPostsByBlogId(BLOG_ID, limit))
                 .thenReturn(List.of(q1, q2));
 
         // when
@@ -790,84 +1076,106 @@ class PostServiceTest {
         assertEquals(1L, r1.postId());
         assertEquals("t1", r1.title());
         assertEquals("cat1", r1.categoryName());
+        assertEquals("안녕 본문 내용 입니다.", r1.summary());
+        assertEquals("https://example.com/a.png", r1.thumbnailUrl());
+        assertEquals(2, r1.readingMinutes());
 
-        assertFalse(r1.summary().contains("<p>"));
-        assertFalse(r1.summary().contains("#"));
-        assertFalse(r1.summary().contains("```"));
-        assertFalse(r1.summary().contains("inlineCode"));
-        assertFalse(r1.summary().contains("\n"));
-        assertFalse(r1.summary().contains("  "));
         assertEquals("짧은 내용", result.get(1).summary());
-
-        assertFalse(r1.summary().contains("!["));
-        assertFalse(r1.summary().contains("[link]("));
+        assertNull(result.get(1).thumbnailUrl());
 
         verify(postQueryRepository, times(1))
-                .findRecentPostsByNickname(nickname, 6);
+                .findRecentPostsByBlogId(BLOG_ID, 6);
         verifyNoMoreInteractions(postQueryRepository);
     }
 
     @Test
-    @DisplayName("닉네임 기준 최근 게시글 썸네일 조회 - content가 null/blank면 summary는 빈 문자열")
-    void getRecentPostThumbnailsByNicknameSummaryBlankWhenContentNullOrBlank() {
+    @DisplayName("닉네임 기준 최근 게시글 썸네일 조회 - 요약이 계산되지 않은 게시글은 빈 요약, 읽기 시간 0")
+    void getRecentPostThumbnailsByNicknameSummaryBlankWhenNotComputed() {
         // given
         String nickname = "user1";
 
         PostRecentThumbnailQueryDto q1 =
-                new PostRecentThumbnailQueryDto(1L, "t1", null, "cat1", null);
-        PostRecentThumbnailQueryDto q2 =
-                new PostRecentThumbnailQueryDto(2L, "t2", "   ", "cat2", null);
+                new PostRecentThumbnailQueryDto(1L, "t1", null, null, null, "cat1", null);
 
-        when(postQueryRepository.findRecentPostsByNickname(nickname, 6))
-                .thenReturn(List.of(q1, q2));
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findRecentPostsByBlogId(BLOG_ID, 6))
+                .thenReturn(List.of(q1));
 
         // when
         List<PostRecentThumbnailResponseDto> result =
-                postService.getRecentPostThumbnailsByNickname(nickname, 1);
+                postService.getRecentPostThumbnailsByNickname(nickname, 6);
 
         // then
-        assertEquals(2, result.size());
+        assertEquals(1, result.size());
         assertEquals("", result.get(0).summary());
-        assertEquals("", result.get(1).summary());
+        assertEquals(0, result.get(0).readingMinutes());
 
         verify(postQueryRepository, times(1))
-                .findRecentPostsByNickname(nickname, 6);
+                .findRecentPostsByBlogId(BLOG_ID, 6);
     }
 
     @Test
-    @DisplayName("닉네임 기준 최근 게시글 요약 조회 - 140자 초과 시 140자로 자르고 ... 붙인다")
-    void getRecentPostThumbnailsByNicknameSummaryTruncateWhenOver140() {
+    @DisplayName("닉네임으로 게시글 cursor 조회 성공 - 다음 페이지가 있으면 nextCursor 반환")
+    void getPostsByUserNicknameWithCursorHasNext() {
         // given
         String nickname = "user1";
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
 
-        // 공백/마크다운/HTML 영향 없이, 순수 텍스트로 200자 만들기
-        String longContent = "a".repeat(200);
+        PostThumbnailResponseDto dto1 = new PostThumbnailResponseDto(3L, "cat", "t3", true, now);
+        PostThumbnailResponseDto dto2 = new PostThumbnailResponseDto(2L, "cat", "t2", true, now);
+        PostThumbnailResponseDto dto3 = new PostThumbnailResponseDto(1L, "cat", "t1", true, now.minusDays(1));
 
-        PostRecentThumbnailQueryDto q1 =
-                new PostRecentThumbnailQueryDto(1L, "t1", longContent, "cat1", null);
-
-        when(postQueryRepository.findRecentPostsByNickname(nickname, 6))
-                .thenReturn(List.of(q1));
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogIdWithCursor(BLOG_ID, null, 2))
+                .thenReturn(List.of(dto1, dto2, dto3));
 
         // when
-        List<PostRecentThumbnailResponseDto> result =
-                postService.getRecentPostThumbnailsByNickname(nickname, 6);
+        CursorResponseDto<PostThumbnailResponseDto> result =
+                postService.getPostsByUserNicknameWithCursor(nickname, null, 2);
 
         // then
-        assertEquals(1, result.size());
+        assertEquals(2, result.content().size());
+        assertTrue(result.hasNext());
+        assertNotNull(result.nextCursor());
 
-        String summary = result.get(0).summary();
-        assertNotNull(summary);
+        PostCursor nextCursor = PostCursor.decode(result.nextCursor());
+        assertEquals(now, nextCursor.createdAt());
+        assertEquals(2L, nextCursor.postId());
+    }
 
-        // 140자 + "..." = 143자
-        assertEquals(143, summary.length());
-        assertTrue(summary.endsWith("..."));
+    @Test
+    @DisplayName("닉네임으로 게시글 cursor 조회 성공 - 마지막 페이지면 nextCursor 없음")
+    void getPostsByUserNicknameWithCursorLastPage() {
+        // given
+        String nickname = "user1";
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        PostCursor cursor = new PostCursor(createdAt, 10L);
 
-        // 앞부분이 140자 잘린건지(모두 'a'인지)까지 확인
-        assertEquals("a".repeat(140) + "...", summary);
+        PostThumbnailResponseDto dto1 = new PostThumbnailResponseDto(9L, "cat", "t9", true, createdAt);
 
-        verify(postQueryRepository, times(1))
-                .findRecentPostsByNickname(nickname, 6);
+        when(blogIdResolver.findBlogId(nickname)).thenReturn(Optional.of(BLOG_ID));
+        when(postQueryRepository.findPostThumbnailsByBlogIdWithCursor(BLOG_ID, cursor, 10))
+                .thenReturn(List.of(dto1));
+
+        // when
+        CursorResponseDto<PostThumbnailResponseDto> result =
+                postService.getPostsByUserNicknameWithCursor(nickname, cursor.encode(), 10);
+
+        // then
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("닉네임으로 게시글 cursor 조회 실패 - 잘못된 cursor")
+    void getPostsByUserNicknameWithCursorFailedInvalidCursor() {
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.getPostsByUserNicknameWithCursor("user1", "invalid-cursor", 10));
+
+        assertEquals(INVALID_CURSOR, exception.getErrorCode());
+        verifyNoInteractions(postQueryRepository);
     }
 
     private PostThumbnailResponseDto buildPostThumbnailResponseDto(
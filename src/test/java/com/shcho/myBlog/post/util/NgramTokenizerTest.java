@@ -0,0 +1,89 @@
+package com.shcho.myBlog.post.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NgramTokenizer Unit Test")
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("한글/영문 구간을 소문자 bigram으로 분해하고 빈도를 센다")
+    void termFrequenciesSplitsIntoBigrams() {
+        // when
+        Map<String, Integer> result = NgramTokenizer.termFrequencies("스프링 Spring, 스프링!");
+
+        // then
+        assertEquals(2, result.get("스프"));
+        assertEquals(2, result.get("프링"));
+        assertEquals(1, result.get("sp"));
+        assertEquals(1, result.get("ng"));
+        assertFalse(result.containsKey("링 "));
+        assertFalse(result.containsKey("Sp"));
+    }
+
+    @Test
+    @DisplayName("글자마다 unigram도 토큰이 된다")
+    void termFrequenciesIncludesUnigrams() {
+        // when
+        Map<String, Integer> result = NgramTokenizer.termFrequencies("Java 스프링");
+
+        // then
+        assertEquals(2, result.get("a"));
+        assertEquals(1, result.get("j"));
+        assertEquals(1, result.get("링"));
+        assertEquals(1, result.get("프링"));
+    }
+
+    @Test
+    @DisplayName("1글자 구간은 그대로 토큰이 된다")
+    void termFrequenciesKeepsSingleCharacterRun() {
+        // when
+        Map<String, Integer> result = NgramTokenizer.termFrequencies("a 글");
+
+        // then
+        assertEquals(Map.of("a", 1, "글", 1), result);
+    }
+
+    @Test
+    @DisplayName("검색어에 bigram이 있으면 bigram 전부를 일치 조건으로 사용")
+    void queryTokensUsesBigrams() {
+        // when
+        NgramTokenizer.QueryTokens tokens = NgramTokenizer.queryTokens("자바 a");
+
+        // then
+        assertEquals(Set.of("자바"), tokens.tokens());
+    }
+
+    @Test
+    @DisplayName("1글자 검색어는 unigram으로 검색")
+    void queryTokensUsesUnigramForSingleCharacter() {
+        // when
+        NgramTokenizer.QueryTokens tokens = NgramTokenizer.queryTokens(" 글 ");
+
+        // then
+        assertEquals(Set.of("글"), tokens.tokens());
+    }
+
+    @Test
+    @DisplayName("1글자 검색어는 단어 끝 글자에도 일치한다")
+    void singleCharacterKeywordMatchesWordFinalCharacter() {
+        // when
+        Map<String, Integer> korean = NgramTokenizer.termFrequencies("우리집");
+        Map<String, Integer> english = NgramTokenizer.termFrequencies("java");
+
+        // then
+        assertTrue(korean.keySet().containsAll(NgramTokenizer.queryTokens("집").tokens()));
+        assertTrue(english.keySet().containsAll(NgramTokenizer.queryTokens("a").tokens()));
+    }
+
+    @Test
+    @DisplayName("특수문자만 있는 검색어는 토큰이 없다")
+    void queryTokensEmptyForSymbols() {
+        assertTrue(NgramTokenizer.queryTokens("!@#").isEmpty());
+    }
+}
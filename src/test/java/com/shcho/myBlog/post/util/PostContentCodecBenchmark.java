@@ -0,0 +1,71 @@
+package com.shcho.myBlog.post.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 본문 압축의 용량/CPU 트레이드오프 측정용. 기본 test 태스크에서는 제외되고 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("PostContentCodec Benchmark")
+class PostContentCodecBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1000;
+
+    @Test
+    @DisplayName("본문 길이별 압축률과 압축/해제 시간")
+    void compressionTradeOff() {
+        System.out.printf("%10s %10s %8s %12s %12s%n", "rawBytes", "encoded", "ratio", "encode(us)", "decode(us)");
+
+        for (int sections : new int[]{1, 10, 50, 200}) {
+            String content = markdown(sections);
+            byte[] encoded = PostContentCodec.encode(content);
+            int rawBytes = content.getBytes(StandardCharsets.UTF_8).length;
+
+            double encodeMicros = measure(() -> PostContentCodec.encode(content));
+            double decodeMicros = measure(() -> PostContentCodec.decode(encoded));
+
+            System.out.printf("%10d %10d %8.2f %12.1f %12.1f%n",
+                    rawBytes, encoded.length, (double) encoded.length / rawBytes, encodeMicros, decodeMicros);
+        }
+    }
+
+    private static double measure(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            task.run();
+        }
+
+        return (System.nanoTime() - start) / 1_000.0 / MEASURE_ROUNDS;
+    }
+
+    // 코드 블록이 섞인 실제 게시글과 비슷한 마크다운
+    private static String markdown(int sections) {
+        Random random = new Random(sections);
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < sections; i++) {
+            sb.append("## 섹션 ").append(i).append('\n');
+            sb.append("Spring Boot 에서 JPA 와 QueryDSL 을 사용해 게시글을 조회하는 방법을 정리합니다. ")
+                    .append("변수 값은 ").append(random.nextInt(10_000)).append(" 입니다.\n\n");
+            sb.append("```java\n")
+                    .append("public List<Post> findPosts(Long blogId) {\n")
+                    .append("    return queryFactory.selectFrom(post).where(post.blog.id.eq(blogId)).fetch();\n")
+                    .append("}\n")
+                    .append("```\n\n");
+            sb.append("![image](https://minio.example.com/users/1/images/")
+                    .append(random.nextInt(1_000_000)).append(".png)\n\n");
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.shcho.myBlog.post.util;
+
+import com.shcho.myBlog.post.entity.PostContent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PostContentCodec Unit Test")
+class PostContentCodecTest {
+
+    private static final String LONG_CONTENT = """
+            # 제목
+            ```java
+            System.out.println("hello");
+            ```
+            본문 내용입니다. Spring Batch 로 게시글 본문을 압축합니다.
+            """.repeat(20);
+
+    @Test
+    @DisplayName("압축 후 복원하면 원문과 같고, 첫 바이트는 Deflate 헤더")
+    void encodeDecodeRoundTrip() {
+        // when
+        byte[] encoded = PostContentCodec.encode(LONG_CONTENT);
+
+        // then
+        assertEquals(PostContentCodec.FORMAT_DEFLATE, encoded[0]);
+        assertTrue(encoded.length < LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(LONG_CONTENT, PostContentCodec.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("RAW 헤더는 나머지 바이트를 UTF-8 문자열로 읽는다")
+    void decodeRawFormat() {
+        // given
+        byte[] body = "본문".getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[body.length + 1];
+        encoded[0] = PostContentCodec.FORMAT_RAW;
+        System.arraycopy(body, 0, encoded, 1, body.length);
+
+        // when & then
+        assertEquals("본문", PostContentCodec.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 헤더면 예외")
+    void decodeUnknownFormat() {
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> PostContentCodec.decode(new byte[]{9, 1, 2}));
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 압축 저장이 켜져 있어도 원문으로 저장")
+    void shortContentStaysRaw() {
+        // when
+        PostContent postContent = PostContent.of("짧은 본문", true);
+
+        // then
+        assertFalse(postContent.isCompressed());
+        assertEquals("짧은 본문", postContent.getContent());
+    }
+
+    @Test
+    @DisplayName("원문으로 저장된 본문을 압축하면 compressedContent로 옮겨지고 내용은 같다")
+    void compressExistingRawContent() {
+        // given
+        PostContent postContent = PostContent.of(LONG_CONTENT);
+
+        // when
+        boolean changed = postContent.compress();
+
+        // then
+        assertTrue(changed);
+        assertTrue(postContent.isCompressed());
+        assertEquals(LONG_CONTENT, postContent.getContent());
+        assertFalse(postContent.compress());
+    }
+}
@@ -0,0 +1,100 @@
+package com.shcho.myBlog.post.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PostContentRenderer Unit Test")
+class PostContentRendererTest {
+
+    @Test
+    @DisplayName("마크다운 제목, 강조, 코드 블록, 표를 HTML로 렌더링한다")
+    void renderMarkdown() {
+        // given
+        String content = """
+            # 제목
+
+            **굵게** ~~취소~~
+
+            ```java
+            System.out.println("hi");
+            ```
+
+            | a | b |
+            |---|---|
+            | 1 | 2 |
+            """;
+
+        // when
+        String html = PostContentRenderer.render(content);
+
+        // then
+        assertTrue(html.contains("<h1>제목</h1>"));
+        assertTrue(html.contains("<strong>굵게</strong>"));
+        assertTrue(html.contains("<del>취소</del>"));
+        assertTrue(html.contains("<code class=\"language-java\">"));
+        assertTrue(html.contains("System.out.println(&quot;hi&quot;);\n"));
+        assertTrue(html.contains("<table>"));
+    }
+
+    @Test
+    @DisplayName("스크립트, 이벤트 핸들러, javascript 링크는 제거한다")
+    void renderSanitizesHtml() {
+        // given
+        String content = """
+            <script>alert(1)</script>
+            <p onclick="alert(2)">본문</p>
+
+            [링크](javascript:alert(3)) <img src="https://example.com/a.png" onerror="alert(4)">
+            """;
+
+        // when
+        String html = PostContentRenderer.render(content);
+
+        // then
+        assertFalse(html.contains("<script"));
+        assertFalse(html.contains("onclick"));
+        assertFalse(html.contains("onerror"));
+        assertFalse(html.contains("javascript:"));
+        assertTrue(html.contains("본문"));
+        assertTrue(html.contains("<img src=\"https://example.com/a.png\">"));
+    }
+
+    @Test
+    @DisplayName("링크에는 rel 속성을 강제로 붙인다")
+    void renderEnforcesLinkRel() {
+        // when
+        String html = PostContentRenderer.render("[blog](https://example.com)");
+
+        // then
+        assertTrue(html.contains("rel=\"nofollow noopener noreferrer\""));
+    }
+
+    @Test
+    @DisplayName("목차(#) 링크와 상대 경로 링크, 이미지는 그대로 유지한다")
+    void renderPreservesRelativeLinks() {
+        // given
+        String content = """
+            [목차](#intro) [다른 글](/posts/12)
+
+            ![그림](images/a.png)
+            """;
+
+        // when
+        String html = PostContentRenderer.render(content);
+
+        // then
+        assertTrue(html.contains("href=\"#intro\""));
+        assertTrue(html.contains("href=\"/posts/12\""));
+        assertTrue(html.contains("src=\"images/a.png\""));
+        assertFalse(html.contains("localhost"));
+    }
+
+    @Test
+    @DisplayName("content가 null/blank면 빈 문자열")
+    void renderNullOrBlank() {
+        assertEquals("", PostContentRenderer.render(null));
+        assertEquals("", PostContentRenderer.render("   "));
+    }
+}
@@ -0,0 +1,143 @@
+package com.shcho.myBlog.post.util;
+
+import com.shcho.myBlog.post.dto.PostContentScan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 본문 분석을 정규식 체인(이전 구현)과 한 번 훑기 스캐너로 비교한다. ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("PostContentScanner Benchmark")
+class PostContentScannerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 300;
+    private static final int MEASURE_ROUNDS = 1000;
+
+    @Test
+    @DisplayName("100KB 본문 기준 정규식 체인 대비 처리 시간")
+    void scannerVersusRegexChain() {
+        String content = markdown(100 * 1024);
+
+        // 결과가 같은지 먼저 확인
+        PostContentScan scan = PostContentScanner.scan(content);
+        LegacyResult legacy = LegacyAnalyzer.analyze(content);
+        if (!scan.summary().equals(legacy.summary()) || !scan.fids().equals(legacy.fids())
+                || !scan.thumbnailUrl().equals(legacy.thumbnailUrl())) {
+            throw new IllegalStateException("스캐너 결과가 이전 구현과 다름");
+        }
+
+        double legacyMicros = measure(() -> LegacyAnalyzer.analyze(content));
+        double scanMicros = measure(() -> PostContentScanner.scan(content));
+
+        System.out.printf("content: %d chars, %d fids, %d images, %d headings%n",
+                content.length(), scan.fids().size(), scan.imageUrls().size(), scan.headings().size());
+        System.out.printf("%-14s %12s%n", "impl", "time(us/op)");
+        System.out.printf("%-14s %12.1f%n", "regex chain", legacyMicros);
+        System.out.printf("%-14s %12.1f%n", "scanner", scanMicros);
+        System.out.printf("speedup: %.1fx%n", legacyMicros / scanMicros);
+    }
+
+    private static double measure(Supplier<?> task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            task.get();
+        }
+
+        return (System.nanoTime() - start) / 1_000.0 / MEASURE_ROUNDS;
+    }
+
+    // 제목, 본문, 코드 블록, 인라인 코드, 링크, 업로드 이미지가 섞인 게시글
+    private static String markdown(int targetLength) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(targetLength + 1024);
+
+        for (int i = 0; sb.length() < targetLength; i++) {
+            sb.append("## 섹션 ").append(i).append('\n');
+            sb.append("Spring Boot 에서 **JPA** 와 _QueryDSL_ 을 사용해 게시글을 조회하는 방법을 정리합니다. ")
+                    .append("`queryFactory` 는 빈으로 주입하고, 자세한 내용은 [공식 문서](https://docs.spring.io/spring-boot)")
+                    .append(" 를 참고합니다.\n\n");
+            sb.append("```java\n")
+                    .append("public List<Post> findPosts(Long blogId) {\n")
+                    .append("    return queryFactory.selectFrom(post).where(post.blog.id.eq(blogId)).fetch();\n")
+                    .append("}\n")
+                    .append("```\n\n");
+            sb.append("![image](https://minio.example.com/users/1/images/")
+                    .append(random.nextInt(1_000_000)).append(".png?fid=").append(i).append(")\n\n");
+            sb.append("<p>HTML 로 작성한 문단 <img src=\"https://minio.example.com/users/1/images/")
+                    .append(random.nextInt(1_000_000)).append(".png?fid=").append(i + 100_000).append("\"></p>\n\n");
+        }
+
+        return sb.toString();
+    }
+
+    private record LegacyResult(String summary, String thumbnailUrl, int readingMinutes, Set<Long> fids) {
+    }
+
+    // 스캐너 도입 전 PostContentAnalyzer.analyze + UploadFileService.extractFids
+    private static final class LegacyAnalyzer {
+
+        private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+        private static final Pattern CODE_BLOCK = Pattern.compile("(?s)```.*?```");
+        private static final Pattern INLINE_CODE = Pattern.compile("`[^`]*`");
+        private static final Pattern MARKDOWN_TOKEN = Pattern.compile("[#>*_\\-]");
+        private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*\\]\\([^\\)]*\\)");
+        private static final Pattern MARKDOWN_LINK = Pattern.compile("\\[[^\\]]*\\]\\([^\\)]*\\)");
+        private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+        private static final Pattern MARKDOWN_IMAGE_URL = Pattern.compile("!\\[[^\\]]*\\]\\(\\s*([^\\s\\)]+)");
+        private static final Pattern HTML_IMAGE_URL =
+                Pattern.compile("(?i)<img\\b[^>]*?\\bsrc\\s*=\\s*[\"']([^\"']+)[\"']");
+
+        static LegacyResult analyze(String content) {
+            String noHtml = HTML_TAG.matcher(content).replaceAll(" ");
+            String noMarkdown = CODE_BLOCK.matcher(noHtml).replaceAll(" ");
+            noMarkdown = INLINE_CODE.matcher(noMarkdown).replaceAll(" ");
+            noMarkdown = MARKDOWN_TOKEN.matcher(noMarkdown).replaceAll(" ");
+            noMarkdown = MARKDOWN_IMAGE.matcher(noMarkdown).replaceAll(" ");
+            noMarkdown = MARKDOWN_LINK.matcher(noMarkdown).replaceAll(" ");
+            String plainText = WHITESPACE.matcher(noMarkdown).replaceAll(" ").trim();
+
+            String summary = plainText.length() <= PostContentScanner.SUMMARY_LENGTH
+                    ? plainText
+                    : plainText.substring(0, PostContentScanner.SUMMARY_LENGTH) + "...";
+            int words = plainText.isEmpty() ? 0 : WHITESPACE.split(plainText).length;
+
+            return new LegacyResult(summary, firstImageUrl(content), Math.max(1, (words + 199) / 200), fids(content));
+        }
+
+        private static String firstImageUrl(String content) {
+            Matcher markdown = MARKDOWN_IMAGE_URL.matcher(content);
+            Matcher html = HTML_IMAGE_URL.matcher(content);
+
+            boolean hasMarkdown = markdown.find();
+            boolean hasHtml = html.find();
+
+            if (hasMarkdown && (!hasHtml || markdown.start() < html.start())) {
+                return markdown.group(1);
+            }
+            return hasHtml ? html.group(1) : null;
+        }
+
+        private static Set<Long> fids(String content) {
+            Matcher matcher = Pattern.compile("(?i)[?&]fid=(\\d+)").matcher(content);
+
+            Set<Long> result = new LinkedHashSet<>();
+            while (matcher.find()) {
+                result.add(Long.parseLong(matcher.group(1)));
+            }
+            return result;
+        }
+    }
+}
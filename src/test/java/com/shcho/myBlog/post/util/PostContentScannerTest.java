@@ -0,0 +1,202 @@
+package com.shcho.myBlog.post.util;
+
+import com.shcho.myBlog.post.dto.PostContentScan;
+import com.shcho.myBlog.post.dto.PostContentSummary;
+import com.shcho.myBlog.post.dto.PostHeading;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PostContentScanner Unit Test")
+class PostContentScannerTest {
+
+    @Test
+    @DisplayName("요약은 HTML/마크다운/코드를 제거하고 공백을 정리한다")
+    void scanStripsMarkup() {
+        // given
+        String content = """
+            <p>  안녕   </p>
+            ![img1](https://example.com/a.png)
+            [link](https://example.com)
+            # 제목
+            ```java
+            System.out.println("hi");
+            ```
+            본문   내용   입니다.   `inlineCode`
+            """;
+
+        // when
+        PostContentSummary result = PostContentScanner.scan(content).contentSummary();
+
+        // then
+        String summary = result.summary();
+        assertFalse(summary.contains("<p>"));
+        assertFalse(summary.contains("#"));
+        assertFalse(summary.contains("```"));
+        assertFalse(summary.contains("inlineCode"));
+        assertFalse(summary.contains("\n"));
+        assertFalse(summary.contains("  "));
+        assertFalse(summary.contains("!["));
+        assertFalse(summary.contains("[link]("));
+    }
+
+    @Test
+    @DisplayName("content가 null/blank면 빈 요약, 썸네일 없음, 읽기 시간 0")
+    void scanNullOrBlank() {
+        // when
+        PostContentSummary nullResult = PostContentScanner.scan(null).contentSummary();
+        PostContentSummary blankResult = PostContentScanner.scan("   ").contentSummary();
+
+        // then
+        assertEquals(new PostContentSummary("", null, 0), nullResult);
+        assertEquals(new PostContentSummary("", null, 0), blankResult);
+    }
+
+    @Test
+    @DisplayName("140자 초과 시 140자로 자르고 ... 붙인다")
+    void scanTruncatesOver140() {
+        // when
+        PostContentSummary result = PostContentScanner.scan("a".repeat(200)).contentSummary();
+
+        // then
+        assertEquals("a".repeat(140) + "...", result.summary());
+    }
+
+    @Test
+    @DisplayName("썸네일은 마크다운 이미지와 img 태그 중 먼저 나오는 이미지")
+    void scanFindsFirstImage() {
+        // when
+        PostContentSummary htmlFirst = PostContentScanner.scan(
+                "<img alt=\"x\" src=\"https://example.com/b.png\"> 본문 ![a](https://example.com/a.png)"
+        ).contentSummary();
+        PostContentSummary markdownFirst = PostContentScanner.scan(
+                "![a](https://example.com/a.png) 본문 <img src='https://example.com/b.png'>"
+        ).contentSummary();
+        PostContentSummary noImage = PostContentScanner.scan("이미지 없는 본문").contentSummary();
+
+        // then
+        assertEquals("https://example.com/b.png", htmlFirst.thumbnailUrl());
+        assertEquals("https://example.com/a.png", markdownFirst.thumbnailUrl());
+        assertNull(noImage.thumbnailUrl());
+    }
+
+    @Test
+    @DisplayName("썸네일은 data: URI를 건너뛰고 다음 이미지를 사용")
+    void scanSkipsDataUriThumbnail() {
+        // when
+        PostContentSummary result = PostContentScanner.scan(
+                "![a](data:image/png;base64,iVBORw0KGgo=) 본문 <img src=\"https://example.com/b.png\">"
+        ).contentSummary();
+        PostContentSummary onlyDataUri = PostContentScanner.scan(
+                "<img src=\"DATA:image/png;base64,iVBORw0KGgo=\">"
+        ).contentSummary();
+
+        // then
+        assertEquals("https://example.com/b.png", result.thumbnailUrl());
+        assertNull(onlyDataUri.thumbnailUrl());
+    }
+
+    @Test
+    @DisplayName("썸네일은 컬럼 길이를 넘는 URL을 건너뛰고 다음 이미지를 사용")
+    void scanSkipsTooLongThumbnail() {
+        // given
+        String tooLong = "https://example.com/" + "a".repeat(2048) + ".png";
+
+        // when
+        PostContentSummary result = PostContentScanner.scan(
+                "![a](" + tooLong + ") ![b](https://example.com/b.png)"
+        ).contentSummary();
+        PostContentSummary onlyTooLong = PostContentScanner.scan("![a](" + tooLong + ")").contentSummary();
+
+        // then
+        assertEquals("https://example.com/b.png", result.thumbnailUrl());
+        assertNull(onlyTooLong.thumbnailUrl());
+    }
+
+    @Test
+    @DisplayName("읽기 시간은 분당 200단어 기준 올림, 최소 1분")
+    void scanReadingMinutes() {
+        // when
+        PostContentSummary shortPost = PostContentScanner.scan("짧은 본문").contentSummary();
+        PostContentSummary longPost = PostContentScanner.scan("word ".repeat(401)).contentSummary();
+
+        // then
+        assertEquals(1, shortPost.readingMinutes());
+        assertEquals(3, longPost.readingMinutes());
+    }
+
+    @Test
+    @DisplayName("fid는 이미지, 링크, 태그, 코드 안까지 본문 전체에서 찾는다")
+    void scanFindsFids() {
+        // given
+        String content = """
+            ![a](https://example.com/a.png?fid=1)
+            [file](https://example.com/b.pdf?x=1&FID=2)
+            <img src="https://example.com/c.png?fid=3">
+            `https://example.com/d.png?fid=4`
+            ?fid=1 fid=5 ?fid=abc
+            """;
+
+        // when
+        PostContentScan result = PostContentScanner.scan(content);
+
+        // then
+        assertEquals(Set.of(1L, 2L, 3L, 4L), result.fids());
+    }
+
+    @Test
+    @DisplayName("이미지 URL은 본문 순서대로, 코드 블록 안의 이미지는 제외한다")
+    void scanCollectsImageUrls() {
+        // given
+        String content = """
+            ![a](https://example.com/a.png)
+            ```markdown
+            ![code](https://example.com/code.png)
+            ```
+            <IMG SRC='https://example.com/b.png'>
+            """;
+
+        // when
+        PostContentScan result = PostContentScanner.scan(content);
+
+        // then
+        assertEquals(List.of("https://example.com/a.png", "https://example.com/b.png"), result.imageUrls());
+    }
+
+    @Test
+    @DisplayName("목차는 마크다운 제목과 h1~h6 태그에서 만들고 줄 중간의 #은 제목이 아니다")
+    void scanBuildsHeadingOutline() {
+        // given
+        String content = """
+            # 첫 번째 **제목**
+            본문 #태그
+            <h2>HTML 제목</h2>
+            ### 세 번째 ###
+            #해시태그
+            """;
+
+        // when
+        PostContentScan result = PostContentScanner.scan(content);
+
+        // then
+        assertEquals(List.of(
+                new PostHeading(1, "첫 번째 제목"),
+                new PostHeading(2, "HTML 제목"),
+                new PostHeading(3, "세 번째")
+        ), result.headings());
+    }
+
+    @Test
+    @DisplayName("본문의 부등호는 태그로 보지 않는다")
+    void scanKeepsComparisonOperators() {
+        // when
+        PostContentScan result = PostContentScanner.scan("a < b 이고 <br> c");
+
+        // then
+        assertEquals("a < b 이고 c", result.summary());
+    }
+}
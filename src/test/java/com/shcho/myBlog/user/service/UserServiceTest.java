@@ -1,9 +1,12 @@
 package com.shcho.myBlog.user.service;
 
+import com.shcho.myBlog.blog.service.BlogContentVersionService;
+import com.shcho.myBlog.blog.service.BlogIdResolver;
 import com.shcho.myBlog.category.repository.CategoryRepository;
 import com.shcho.myBlog.common.service.MinioService;
 import com.shcho.myBlog.common.util.JwtProvider;
 import com.shcho.myBlog.libs.exception.CustomException;
+import com.shcho.myBlog.post.service.PostReadModelService;
 import com.shcho.myBlog.user.dto.*;
 import com.shcho.myBlog.user.entity.User;
 import com.shcho.myBlog.user.repository.UserRepository;
@@ -39,6 +42,12 @@ class UserServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private MinioService minioService;
+    @Mock
+    private BlogContentVersionService blogContentVersionService;
+    @Mock
+    private BlogIdResolver blogIdResolver;
+    @Mock
+    private PostReadModelService postReadModelService;
     @InjectMocks
     private UserService userService;
 
@@ -77,6 +86,7 @@ class UserServiceTest {
         assertEquals(requestDto.email(), savedUser.getEmail());
 
         verify(passwordEncoder, times(1)).encode(requestDto.password());
+        verify(blogIdResolver, times(1)).evict(requestDto.nickname());
     }
 
     @Test
@@ -358,6 +368,9 @@ class UserServiceTest {
         // then
         assertNotNull(updatedUser);
         assertEquals("newNickname", updatedUser.getNickname());
+        verify(blogIdResolver, times(1)).evict("oldNickname");
+        verify(blogIdResolver, times(1)).evict("newNickname");
+        verify(postReadModelService, times(1)).renameNickname(1L, "newNickname");
     }
 
     @Test
@@ -531,6 +544,7 @@ class UserServiceTest {
 
         verify(minioService).extractObjectNameFromUrl(oldImageUrl);
         verify(minioService).deleteObject(oldObjectName);
+        verify(blogContentVersionService).bumpByUserId(user.getUserId());
     }
 
     private UserSignUpRequestDto createTestRequest() {